@@ -21,20 +21,28 @@ import static io.github.bonigarcia.wdm.WebDriverManager.edgedriver;
 import static io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver;
 import static io.github.bonigarcia.wdm.WebDriverManager.iedriver;
 import static io.github.bonigarcia.wdm.WebDriverManager.operadriver;
+import static io.github.bonigarcia.wdm.cache.ServerResolutionCacheBackend.getEtag;
+import static io.github.bonigarcia.wdm.cache.ServerResolutionCacheBackend.toBytes;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.FileUtils.openInputStream;
+import static org.apache.hc.core5.http.HttpHeaders.ETAG;
+import static org.apache.hc.core5.http.HttpHeaders.IF_NONE_MATCH;
+import static org.apache.hc.core5.http.HttpStatus.SC_NOT_MODIFIED;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -56,6 +64,9 @@ import org.slf4j.Logger;
 
 import com.google.gson.Gson;
 
+import io.github.bonigarcia.wdm.cache.FileResolutionCacheBackend;
+import io.github.bonigarcia.wdm.cache.ResolutionCacheBackend;
+import io.github.bonigarcia.wdm.cache.ServerResolutionCacheBackend;
 import io.github.bonigarcia.wdm.config.Config;
 import io.javalin.Javalin;
 import io.javalin.http.Context;
@@ -74,6 +85,7 @@ public class WdmServer {
     private static final String DELETE = "DELETE";
     private static final String POST = "POST";
     private static final String SESSIONID = "\"sessionId\":";
+    private static final String CACHE = ServerResolutionCacheBackend.CACHE_PATH;
 
     static final Logger log = getLogger(lookup().lookupClass());
 
@@ -81,6 +93,8 @@ public class WdmServer {
     private Map<String, WebDriverManager> wdmMap;
     private Config config;
     private String path;
+    private ResolutionCacheBackend resolutionCacheBackend;
+    private Properties resolutionCacheProps;
 
     public WdmServer(int port) {
         sessionMap = new ConcurrentHashMap<>();
@@ -108,6 +122,12 @@ public class WdmServer {
         app.get(path + SESSION + "/*", handler);
         app.delete(path + SESSION + "/*", handler);
 
+        // Resolution cache (shared by the clients using the server backend)
+        resolutionCacheBackend = new FileResolutionCacheBackend(config);
+        app.get(path + CACHE, this::getResolutionCache);
+        app.post(path + CACHE, this::storeResolutionCache);
+        app.delete(path + CACHE, this::clearResolutionCache);
+
         String localHostAddress = getLocalHostAddress();
         log.info("WebDriverManager Server listening on http://{}:{}{}",
                 localHostAddress, port, path);
@@ -140,6 +160,68 @@ public class WdmServer {
         }
     }
 
+    private synchronized Properties getResolutionCacheProps()
+            throws IOException {
+        if (resolutionCacheProps == null) {
+            resolutionCacheProps = resolutionCacheBackend.load();
+        }
+        return resolutionCacheProps;
+    }
+
+    private synchronized void getResolutionCache(Context ctx)
+            throws IOException {
+        Optional<Properties> reloaded = resolutionCacheBackend.reload();
+        if (reloaded.isPresent()) {
+            resolutionCacheProps = reloaded.get();
+        }
+        // The clients only download the resolution cache when changed
+        String etag = getEtag(getResolutionCacheProps());
+        ctx.header(ETAG, etag);
+        if (etag.equals(ctx.header(IF_NONE_MATCH))) {
+            ctx.status(SC_NOT_MODIFIED);
+            return;
+        }
+        ctx.contentType("text/plain");
+        ctx.result(toBytes(getResolutionCacheProps()));
+    }
+
+    private synchronized void storeResolutionCache(Context ctx)
+            throws IOException {
+        Properties changes = new Properties();
+        changes.load(new ByteArrayInputStream(ctx.bodyAsBytes()));
+        log.debug("Storing in resolution cache: {}", changes);
+
+        // An empty value is the record for a removed key
+        Properties props = getResolutionCacheProps();
+        List<String> keyValuePairs = new ArrayList<>();
+        for (String key : changes.stringPropertyNames()) {
+            String value = changes.getProperty(key);
+            if (value.isEmpty()) {
+                props.remove(key);
+            } else {
+                props.put(key, value);
+            }
+            keyValuePairs.add(key);
+            keyValuePairs.add(value);
+        }
+        Optional<Properties> stored = resolutionCacheBackend.store(props,
+                keyValuePairs.toArray(new String[0]));
+        if (stored.isPresent()) {
+            resolutionCacheProps = stored.get();
+        }
+        ctx.header(ETAG, getEtag(resolutionCacheProps));
+        ctx.contentType("text/plain");
+        ctx.result(toBytes(resolutionCacheProps));
+    }
+
+    private synchronized void clearResolutionCache(Context ctx) {
+        log.info("Clearing resolution cache");
+        resolutionCacheBackend.clear();
+        resolutionCacheProps = null;
+        ctx.contentType("text/plain");
+        ctx.result("");
+    }
+
     private void seleniumServer(Context ctx) throws IOException {
         String requestMethod = ctx.method();
         String requestPath = ctx.path().replace(path, "");
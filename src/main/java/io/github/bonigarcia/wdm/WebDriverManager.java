@@ -42,6 +42,7 @@ import static java.lang.String.valueOf;
 import static java.lang.System.getenv;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.nio.charset.Charset.defaultCharset;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.sort;
 import static java.util.Locale.ROOT;
 import static java.util.Optional.empty;
@@ -61,11 +62,15 @@ import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.SocketException;
 import java.net.URL;
+import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -82,6 +87,7 @@ import java.util.Optional;
 import java.util.Scanner;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
@@ -89,6 +95,7 @@ import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import javax.net.ssl.SSLException;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.parsers.DocumentBuilder;
@@ -99,6 +106,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.NoHttpResponseException;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
@@ -123,6 +131,8 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.internal.LinkedTreeMap;
 
 import io.github.bonigarcia.wdm.cache.CacheHandler;
+import io.github.bonigarcia.wdm.cache.CacheLock;
+import io.github.bonigarcia.wdm.cache.DriverPrefetcher;
 import io.github.bonigarcia.wdm.cache.ResolutionCache;
 import io.github.bonigarcia.wdm.config.Architecture;
 import io.github.bonigarcia.wdm.config.Config;
@@ -139,9 +149,14 @@ import io.github.bonigarcia.wdm.managers.InternetExplorerDriverManager;
 import io.github.bonigarcia.wdm.managers.OperaDriverManager;
 import io.github.bonigarcia.wdm.managers.SafariDriverManager;
 import io.github.bonigarcia.wdm.managers.VoidDriverManager;
+import io.github.bonigarcia.wdm.online.CircuitBreaker;
+import io.github.bonigarcia.wdm.online.CircuitBreakerOpenException;
 import io.github.bonigarcia.wdm.online.Downloader;
 import io.github.bonigarcia.wdm.online.GitHubApi;
 import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.online.HttpStatusException;
+import io.github.bonigarcia.wdm.online.MetadataCache;
+import io.github.bonigarcia.wdm.online.MirrorSelector;
 import io.github.bonigarcia.wdm.online.NpmMirror;
 import io.github.bonigarcia.wdm.online.S3NamespaceContext;
 import io.github.bonigarcia.wdm.online.UrlHandler;
@@ -202,6 +217,7 @@ public abstract class WebDriverManager {
 
     protected Config config;
     protected HttpClient httpClient;
+    protected CircuitBreaker circuitBreaker;
     protected Downloader downloader;
     protected ResolutionCache resolutionCache;
     protected CacheHandler cacheHandler;
@@ -219,6 +235,7 @@ public abstract class WebDriverManager {
     protected boolean isHeadless = false;
     protected List<WebDriverBrowser> webDriverList;
     protected String resolvedBrowserVersion;
+    protected Boolean selectedMirror;
 
     protected String downloadedDriverVersion;
     protected String downloadedDriverPath;
@@ -236,39 +253,39 @@ public abstract class WebDriverManager {
         return Optional.ofNullable(config).orElse(new Config());
     }
 
-    public static synchronized WebDriverManager chromedriver() {
+    public static WebDriverManager chromedriver() {
         return new ChromeDriverManager();
     }
 
-    public static synchronized WebDriverManager chromiumdriver() {
+    public static WebDriverManager chromiumdriver() {
         return new ChromiumDriverManager();
     }
 
-    public static synchronized WebDriverManager firefoxdriver() {
+    public static WebDriverManager firefoxdriver() {
         return new FirefoxDriverManager();
     }
 
-    public static synchronized WebDriverManager operadriver() {
+    public static WebDriverManager operadriver() {
         return new OperaDriverManager();
     }
 
-    public static synchronized WebDriverManager edgedriver() {
+    public static WebDriverManager edgedriver() {
         return new EdgeDriverManager();
     }
 
-    public static synchronized WebDriverManager iedriver() {
+    public static WebDriverManager iedriver() {
         return new InternetExplorerDriverManager();
     }
 
-    public static synchronized WebDriverManager safaridriver() {
+    public static WebDriverManager safaridriver() {
         return new SafariDriverManager();
     }
 
-    protected static synchronized WebDriverManager voiddriver() {
+    protected static WebDriverManager voiddriver() {
         return new VoidDriverManager();
     }
 
-    public static synchronized WebDriverManager getInstance(
+    public static WebDriverManager getInstance(
             DriverManagerType driverManagerType) {
         // This condition is necessary for compatibility between Selenium 3 and
         // 4 (since in Selenium 4, the class
@@ -279,7 +296,7 @@ public abstract class WebDriverManager {
         return getDriver(driverManagerType.browserClass());
     }
 
-    public static synchronized WebDriverManager getInstance(
+    public static WebDriverManager getInstance(
             String browserName) {
         DriverManagerType managerType;
         String browserNameUpperCase = browserName.toUpperCase(ROOT);
@@ -308,12 +325,12 @@ public abstract class WebDriverManager {
         return getInstance(managerType);
     }
 
-    public static synchronized WebDriverManager getInstance(
+    public static WebDriverManager getInstance(
             Class<? extends WebDriver> webDriverClass) {
         return getDriver(webDriverClass.getName());
     }
 
-    protected static synchronized WebDriverManager getDriver(
+    protected static WebDriverManager getDriver(
             String webDriverClass) {
         switch (webDriverClass) {
         case "org.openqa.selenium.chrome.ChromeDriver":
@@ -335,7 +352,7 @@ public abstract class WebDriverManager {
         }
     }
 
-    public static synchronized WebDriverManager getInstance() {
+    public static WebDriverManager getInstance() {
         WebDriverManager manager = voiddriver();
         String defaultBrowser = manager.config().getDefaultBrowser();
         try {
@@ -412,9 +429,19 @@ public abstract class WebDriverManager {
 
     public synchronized void setup() {
         cacheHandler = new CacheHandler(config());
-        httpClient = new HttpClient(config());
+        // The HTTP client of the former setup is released (the underlying
+        // client is shared by the clients with the same configuration)
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.trace("Exception closing HTTP client: {}",
+                        e.getMessage());
+            }
+        }
+        httpClient = null;
         downloader = new Downloader(getHttpClient(), config(),
-                this::postDownload);
+                this::postDownload, getEntryFilter());
 
         if (config().isClearDriverCache()) {
             clearDriverCache();
@@ -742,6 +769,50 @@ public abstract class WebDriverManager {
         return this;
     }
 
+    public WebDriverManager downloadChunks(int chunks) {
+        config().setDownloadChunks(chunks);
+        return this;
+    }
+
+    public WebDriverManager useResumableDownloads() {
+        config().setResumableDownloads(true);
+        return this;
+    }
+
+    public WebDriverManager installLockTimeout(int seconds) {
+        config().setInstallLockTimeout(seconds);
+        return this;
+    }
+
+    public WebDriverManager useDriverPrefetch() {
+        config().setDriverPrefetch(true);
+        return this;
+    }
+
+    public WebDriverManager useMetadataCache() {
+        config().setMetadataCache(true);
+        return this;
+    }
+
+    public WebDriverManager useAdaptiveMirror() {
+        Optional<URL> mirrorUrl = getMirrorUrl();
+        if (!mirrorUrl.isPresent()) {
+            throw new WebDriverManagerException("Mirror URL not available");
+        }
+        config().setUseAdaptiveMirror(true);
+        return this;
+    }
+
+    public WebDriverManager circuitBreakerThreshold(int failures) {
+        config().setCircuitBreakerThreshold(failures);
+        return this;
+    }
+
+    public WebDriverManager circuitBreakerTimeout(int seconds) {
+        config().setCircuitBreakerTimeout(seconds);
+        return this;
+    }
+
     public WebDriverManager properties(String properties) {
         config().setProperties(properties);
         return this;
@@ -752,6 +823,21 @@ public abstract class WebDriverManager {
         return this;
     }
 
+    public WebDriverManager useCacheBlobStore() {
+        config().setCacheBlobStore(true);
+        return this;
+    }
+
+    public WebDriverManager cacheMaxSize(int megabytes) {
+        config().setCacheMaxSize(megabytes);
+        return this;
+    }
+
+    public WebDriverManager cacheMaxDrivers(int drivers) {
+        config().setCacheMaxDrivers(drivers);
+        return this;
+    }
+
     public WebDriverManager resolutionCachePath(String resolutionCachePath) {
         config().setResolutionCachePath(resolutionCachePath);
         return this;
@@ -777,6 +863,26 @@ public abstract class WebDriverManager {
         return this;
     }
 
+    public WebDriverManager useResolutionCacheJournal() {
+        config().setResolutionCacheJournal(true);
+        return this;
+    }
+
+    public WebDriverManager useResolutionCacheLock() {
+        config().setResolutionCacheLock(true);
+        return this;
+    }
+
+    public WebDriverManager resolutionCacheBackend(String backend) {
+        config().setResolutionCacheBackend(backend);
+        return this;
+    }
+
+    public WebDriverManager resolutionCacheServerUrl(String url) {
+        config().setResolutionCacheServerUrl(url);
+        return this;
+    }
+
     public WebDriverManager avoidFallback() {
         config().setAvoidFallback(true);
         return this;
@@ -807,6 +913,16 @@ public abstract class WebDriverManager {
         return this;
     }
 
+    public WebDriverManager resolutionCacheGracePeriod(int seconds) {
+        config().setResolutionCacheGracePeriod(seconds);
+        return this;
+    }
+
+    public WebDriverManager ttlForErrors(int seconds) {
+        config().setTtlForErrors(seconds);
+        return this;
+    }
+
     public WebDriverManager browserVersionDetectionCommand(
             String browserVersionCommand) {
         config().setBrowserVersionDetectionCommand(browserVersionCommand);
@@ -1194,8 +1310,18 @@ public abstract class WebDriverManager {
             return;
         }
 
+        selectedMirror = null;
         try (HttpClient wdmHttpClient = getHttpClient()) {
             if (isUnknown(driverVersion)) {
+                Optional<String> latestDriverInCache = getLatestDriverInCacheAfterError();
+                if (latestDriverInCache.isPresent()) {
+                    File driverInCache = new File(latestDriverInCache.get());
+                    downloadedDriverVersion = driverInCache.getParentFile()
+                            .getName();
+                    exportDriver(driverInCache.toString());
+                    return;
+                }
+                prefetchMetadata();
                 driverVersion = resolveDriverVersion(driverVersion);
             }
 
@@ -1219,16 +1345,98 @@ public abstract class WebDriverManager {
                 exportValue = driverInCache.get();
                 downloadedDriverVersion = driverVersion;
             } else {
+                Optional<String> latestDriverInCache = getLatestDriverInCacheIfRepositoryDown();
+                if (latestDriverInCache.isPresent()) {
+                    File driverFile = new File(latestDriverInCache.get());
+                    downloadedDriverVersion = driverFile.getParentFile()
+                            .getName();
+                    exportDriver(driverFile.toString());
+                    return;
+                }
                 exportValue = download(driverVersion);
+                cacheHandler.storeDriverInCache(driverVersion, getDriverName(),
+                        config().getArchitecture(), config().getOs(),
+                        new File(exportValue));
             }
 
             exportDriver(exportValue);
+            if (config().isDriverPrefetch()
+                    && !config().isAvoidExternalConnections()) {
+                prefetchDrivers();
+            }
 
         } catch (Exception e) {
             handleException(e, driverVersion);
         }
     }
 
+    protected void prefetchDrivers() {
+        // The upcoming drivers are downloaded in the background with its own
+        // HTTP client, since the client of the manager is released when
+        // manage() finishes
+        CacheHandler prefetchCacheHandler = cacheHandler;
+        DriverPrefetcher.prefetch(config(), getDriverName(), () -> {
+            try (HttpClient prefetchHttpClient = new HttpClient(config(),
+                    getCircuitBreaker())) {
+                Downloader prefetchDownloader = new Downloader(
+                        prefetchHttpClient, config(), this::postDownload,
+                        getEntryFilter());
+                for (String version : getUpcomingDriverVersions(
+                        prefetchHttpClient)) {
+                    Optional<URL> url = buildUrl(version);
+                    if (!url.isPresent()) {
+                        continue;
+                    }
+                    log.debug("Prefetching {} {}", getDriverName(), version);
+                    String driver = prefetchDownloader.download(url.get(),
+                            version, getDriverName(), getDriverManagerType());
+                    prefetchCacheHandler.storeDriverInCache(version,
+                            getDriverName(), config().getArchitecture(),
+                            config().getOs(), new File(driver));
+                }
+            }
+        });
+    }
+
+    protected List<String> getUpcomingDriverVersions(HttpClient httpClient)
+            throws IOException {
+        return emptyList();
+    }
+
+    protected boolean selectMirror() {
+        URL mirrorUrl = getMirrorUrl().get();
+        URL selectedUrl = MirrorSelector.select(getHttpClient(),
+                getPrimaryUrl(), mirrorUrl);
+        return selectedUrl.toString().equals(mirrorUrl.toString());
+    }
+
+    protected URL getPrimaryUrl() {
+        return getDriverUrl();
+    }
+
+    protected void prefetchMetadata() {
+        // The metadata required to resolve the driver version is requested
+        // asynchronously, so it is fetched while the browser is detected
+        boolean browserVersionKnown = StringUtils
+                .isNotEmpty(getBrowserVersion())
+                || useResolutionCacheWithKey(getKeyForResolutionCache());
+        if (config().isAvoidExternalConnections() || browserVersionKnown) {
+            return;
+        }
+        try {
+            for (URL url : getMetadataUrls()) {
+                MetadataCache.prefetch(getHttpClient(), url);
+            }
+        } catch (Exception e) {
+            log.trace("Exception prefetching metadata of {} ({})",
+                    getDriverName(), e.getMessage());
+        }
+    }
+
+    protected List<URL> getMetadataUrls() throws IOException {
+        return emptyList();
+    }
+
     protected boolean checkSnap(String driverSnapPath) {
         File snapDriverPath = new File(driverSnapPath);
         boolean existsSnap = snapDriverPath.exists();
@@ -1355,17 +1563,57 @@ public abstract class WebDriverManager {
         if (useResolutionCacheWithKey(preferenceKey)) {
             optionalBrowserVersion = Optional.of(getResolutionCache()
                     .getValueFromResolutionCache(preferenceKey));
+            revalidateIfStale(preferenceKey);
         }
         return optionalBrowserVersion;
     }
 
+    protected void revalidateIfStale(String key) {
+        ResolutionCache cache = getResolutionCache();
+        if (!cache.isStale(key)) {
+            return;
+        }
+        String browserKey = getKeyForResolutionCache();
+        if (key.equals(browserKey)) {
+            cache.revalidate(key, this::getBrowserVersionFromTheShell,
+                    config().getTtlForBrowsers());
+        } else if (key.startsWith(browserKey)) {
+            // The driver version is resolved in the background by another
+            // manager, using a snapshot of the configuration and its own HTTP
+            // client (since the state of this manager can change, and its
+            // client is released when manage() finishes)
+            Config snapshot = config().copy();
+            DriverManagerType managerType = getDriverManagerType();
+            String browserVersion = key.substring(browserKey.length());
+            cache.revalidate(key, () -> {
+                try (HttpClient revalidationClient = new HttpClient(
+                        snapshot)) {
+                    WebDriverManager manager = getInstance(managerType);
+                    manager.config = snapshot;
+                    manager.httpClient = revalidationClient;
+                    manager.circuitBreaker = revalidationClient
+                            .getCircuitBreaker();
+                    manager.resolutionCache = cache;
+                    manager.resolvedBrowserVersion = browserVersion;
+                    return manager.getDriverVersionFromRepository(
+                            Optional.of(browserVersion));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, snapshot.getTtl());
+        }
+    }
+
     protected List<File> postDownload(File archive) {
         File parentFolder = archive.getParentFile();
         Collection<File> ls = FileUtils.listFiles(parentFolder, null, true);
         List<File> listFiles = new ArrayList<>();
         for (File f : ls) {
-            if (f.getName().startsWith(getDriverName())
-                    && getDriverName().contains(removeExtension(f.getName()))) {
+            if (CacheLock.isLockFile(f)) {
+                // E.g., the lock of the installation (avoidTmpFolder)
+                continue;
+            }
+            if (getEntryFilter().test(f.getName())) {
                 log.trace("Found driver in post-download: {}", f);
                 listFiles.add(f);
             } else {
@@ -1397,6 +1645,7 @@ public abstract class WebDriverManager {
         if (useResolutionCacheWithKey(driverManagerTypeLowerCase)) {
             optionalBrowserVersion = Optional.of(getResolutionCache()
                     .getValueFromResolutionCache(driverManagerTypeLowerCase));
+            revalidateIfStale(driverManagerTypeLowerCase);
 
             log.trace("Detected {} version {}", getDriverManagerType(),
                     optionalBrowserVersion);
@@ -1415,8 +1664,86 @@ public abstract class WebDriverManager {
         return !config().isAvoidResolutionCache();
     }
 
+    protected boolean isNegativeCachingEnabled() {
+        return useResolutionCache() && config().getTtlForErrors() > 0
+                && !config().isForceDownload();
+    }
+
+    protected boolean isNetworkError(Exception e) {
+        // Only the failures reaching the driver repository (e.g., unknown
+        // host, timeout, HTTP error, or circuit breaker open) are stored as
+        // negative entries, and not local errors (e.g., extraction or I/O
+        // errors in the cache)
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusException
+                    || cause instanceof CircuitBreakerOpenException
+                    || cause instanceof UnknownHostException
+                    || cause instanceof SocketException
+                    || cause instanceof InterruptedIOException
+                    || cause instanceof NoHttpResponseException
+                    || cause instanceof SSLException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected Optional<String> getLatestDriverInCacheAfterError() {
+        if (!isNegativeCachingEnabled()) {
+            return empty();
+        }
+        Optional<String> error = getResolutionCache()
+                .getErrorFromResolutionCache(getDriverName());
+        if (!error.isPresent()) {
+            return empty();
+        }
+        Optional<String> driverInCache = cacheHandler.getDriverFromCache("",
+                getDriverName(), getDriverManagerType(),
+                config().getArchitecture(), config().getOs());
+        if (driverInCache.isPresent()) {
+            log.warn(
+                    "Resolution of {} recently failed ({}) ... using latest driver stored in cache",
+                    getDriverName(), error.get());
+        }
+        return driverInCache;
+    }
+
+    protected Optional<String> getLatestDriverInCacheIfRepositoryDown() {
+        // Used only when the driver cannot be resolved locally (i.e., with
+        // the resolution cache and the drivers in cache)
+        URL repositoryUrl = isUseMirror() ? getMirrorUrl().get()
+                : getPrimaryUrl();
+        if (repositoryUrl == null || config().isAvoidExternalConnections()
+                || !getCircuitBreaker().isOpen(repositoryUrl)) {
+            return empty();
+        }
+        Optional<String> driverInCache = cacheHandler.getDriverFromCache("",
+                getDriverName(), getDriverManagerType(),
+                config().getArchitecture(), config().getOs());
+        if (driverInCache.isPresent()) {
+            log.warn(
+                    "Circuit breaker of {} open ... using latest {} stored in cache",
+                    repositoryUrl.getHost(), getDriverName());
+        }
+        return driverInCache;
+    }
+
     protected boolean isUseMirror() {
-        return getMirrorUrl().isPresent() && config().isUseMirror();
+        if (!getMirrorUrl().isPresent()) {
+            return false;
+        }
+        if (!config().isUseAdaptiveMirror()
+                || config().isAvoidExternalConnections()) {
+            return config().isUseMirror();
+        }
+        if (selectedMirror == null) {
+            // The repository is selected when it is first required (i.e.,
+            // not when the driver is resolved from the cache). The primary
+            // URL is read without mirror.
+            selectedMirror = false;
+            selectedMirror = selectMirror();
+        }
+        return selectedMirror;
     }
 
     protected boolean isChrome() {
@@ -1451,6 +1778,11 @@ public abstract class WebDriverManager {
     }
 
     protected void handleException(Exception e, String driverVersion) {
+        if (retryCount == 0 && isNegativeCachingEnabled()
+                && isNetworkError(e)) {
+            getResolutionCache().putErrorInResolutionCache(getDriverName(), e,
+                    config().getTtlForErrors());
+        }
         String driverVersionStr = getDriverVersionLabel(driverVersion);
         String errorMessage = String.format(
                 "There was an error managing %s %s (%s)", getDriverName(),
@@ -1589,7 +1921,7 @@ public abstract class WebDriverManager {
         HttpGet get = getHttpClient()
                 .createHttpGet(new URL(driverUrl, versionPath));
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(
-                getHttpClient().execute(get).getEntity().getContent()))) {
+                new MetadataCache(getHttpClient()).open(get)))) {
 
             GsonBuilder gsonBuilder = new GsonBuilder();
             Gson gson = gsonBuilder.create();
@@ -1640,7 +1972,7 @@ public abstract class WebDriverManager {
             get.addHeader("Authorization", "token " + gitHubToken);
         }
 
-        return getHttpClient().execute(get).getEntity().getContent();
+        return new MetadataCache(getHttpClient()).open(get);
     }
 
     protected List<URL> getDriversFromGitHub(String driverVersion)
@@ -1678,7 +2010,20 @@ public abstract class WebDriverManager {
     }
 
     protected HttpClient getHttpClient() {
-        return Optional.ofNullable(httpClient).orElse(new HttpClient(config()));
+        if (httpClient == null || httpClient.isClosed()) {
+            // The client is released when manage() finishes, and the
+            // components using the former client are created again
+            httpClient = new HttpClient(config(), getCircuitBreaker());
+            versionDetector = null;
+        }
+        return httpClient;
+    }
+
+    protected CircuitBreaker getCircuitBreaker() {
+        return Optional.ofNullable(circuitBreaker).orElseGet(() -> {
+            circuitBreaker = new CircuitBreaker(config());
+            return circuitBreaker;
+        });
     }
 
     protected ResolutionCache getResolutionCache() {
@@ -1689,8 +2034,10 @@ public abstract class WebDriverManager {
     }
 
     protected VersionDetector getVersionDetector() {
+        HttpClient versionHttpClient = getHttpClient();
         return Optional.ofNullable(versionDetector).orElseGet(() -> {
-            versionDetector = new VersionDetector(config(), getHttpClient());
+            versionDetector = new VersionDetector(config(), versionHttpClient,
+                    useResolutionCache() ? getResolutionCache() : null);
             return versionDetector;
         });
     }
@@ -1702,6 +2049,11 @@ public abstract class WebDriverManager {
         });
     }
 
+    protected Predicate<String> getEntryFilter() {
+        return name -> name.startsWith(getDriverName())
+                && getDriverName().contains(removeExtension(name));
+    }
+
     protected FilenameFilter getFolderFilter() {
         return (dir, name) -> dir.isDirectory()
                 && name.toLowerCase(ROOT).contains(getDriverName());
@@ -1728,7 +2080,7 @@ public abstract class WebDriverManager {
     }
 
     protected URL getDriverUrlCkeckingMirror(URL url) {
-        if (config().isUseMirror()) {
+        if (isUseMirror()) {
             Optional<URL> mirrorUrl = getMirrorUrl();
             if (mirrorUrl.isPresent()) {
                 return mirrorUrl.get();
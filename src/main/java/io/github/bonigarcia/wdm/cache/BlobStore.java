@@ -0,0 +1,161 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.config.WebDriverManagerException;
+
+/**
+ * Content-addressed store of driver binaries (folder blobs/sha256 in the
+ * cache). Each binary is stored once (named by its SHA-256 digest), and the
+ * driver paths in the cache are links to it.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class BlobStore {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final String BLOBS = "blobs";
+    static final String SHA_256 = "SHA-256";
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    File blobsFolder;
+
+    public BlobStore(File cacheFolder) {
+        this.blobsFolder = new File(new File(cacheFolder, BLOBS), "sha256");
+    }
+
+    public File store(File file) throws IOException {
+        return store(file, sha256(file));
+    }
+
+    public File store(File file, String digest) throws IOException {
+        File blob = new File(blobsFolder, digest);
+        if (!blobsFolder.exists() && !blobsFolder.mkdirs()) {
+            throw new IOException("Unable to create folder " + blobsFolder);
+        }
+
+        try (CacheLock lock = CacheLock.lock(blobsFolder)) {
+            if (isStored(blob, file, digest)) {
+                log.trace("Blob {} already stored for {}", digest, file);
+            } else {
+                File tmpFile = File.createTempFile(digest, ".tmp",
+                        blobsFolder);
+                Files.copy(file.toPath(), tmpFile.toPath(), REPLACE_EXISTING);
+                Files.move(tmpFile.toPath(), blob.toPath(), REPLACE_EXISTING,
+                        ATOMIC_MOVE);
+                log.trace("Stored blob {} for {}", digest, file);
+            }
+            if (!blob.setExecutable(true)) {
+                log.warn("Error setting file {} as executable", blob);
+            }
+            link(file.toPath(), blob.toPath());
+        }
+        return file;
+    }
+
+    private boolean isStored(File blob, File file, String digest)
+            throws IOException {
+        if (!blob.exists()) {
+            return false;
+        }
+        // A corrupted blob (e.g., truncated or modified) is stored again
+        boolean isValid = blob.length() == file.length()
+                && sha256(blob).equals(digest);
+        if (!isValid) {
+            log.warn("Blob {} corrupted ... storing it again", blob);
+        }
+        return isValid;
+    }
+
+    private void link(Path link, Path blob) throws IOException {
+        Files.delete(link);
+        try {
+            createLink(link, blob);
+            log.trace("Hard link {} -> {}", link, blob);
+            return;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.trace("Hard link not supported for {} ({})", link,
+                    e.getMessage());
+        }
+        try {
+            createSymbolicLink(link, blob);
+            log.trace("Symbolic link {} -> {}", link, blob);
+            return;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.trace("Symbolic link not supported for {} ({})", link,
+                    e.getMessage());
+        }
+        Files.copy(blob, link);
+    }
+
+    protected void createLink(Path link, Path blob) throws IOException {
+        Files.createLink(link, blob);
+    }
+
+    protected void createSymbolicLink(Path link, Path blob)
+            throws IOException {
+        Files.createSymbolicLink(link, blob);
+    }
+
+    public static String sha256(File file) throws IOException {
+        MessageDigest digest = newSha256Digest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = new FileInputStream(file)) {
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    public static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new WebDriverManagerException(e);
+        }
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+}
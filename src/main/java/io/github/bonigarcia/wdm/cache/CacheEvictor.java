@@ -0,0 +1,394 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.io.FileUtils.deleteDirectory;
+import static org.apache.commons.io.FileUtils.sizeOfDirectory;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache.SortedProperties;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Size-bounded driver cache. The last access to each driver version is
+ * recorded (access.properties in the cache folder), and the least recently
+ * used versions are removed in the background when the cache exceeds its
+ * quota (size and/or number of driver versions). Only the drivers installed by
+ * WebDriverManager (i.e., stored in the manifest or in the access file) are
+ * evicted, and the cache is only scanned when the total size (also stored in
+ * the access file) exceeds the quota.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class CacheEvictor {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final String ACCESS = "access.properties";
+    static final String ACCESS_INFO = "WebDriverManager Driver Cache Last Access";
+    static final String TOTAL_SIZE = "total.size";
+    static final int VERSION_DEPTH = 3; // driverName/osArch/version
+
+    static final ExecutorService evictionExecutor = Executors
+            .newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wdm-cache-eviction");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+
+    // Accesses not yet stored, by cache folder
+    static final Map<File, Map<File, Long>> pendingAccesses = new ConcurrentHashMap<>();
+
+    private CacheEvictor() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void recordAccess(Config config, File driver) {
+        long maxBytes = config.getCacheMaxSize() * 1024L * 1024L;
+        int maxDrivers = config.getCacheMaxDrivers();
+        if (maxBytes <= 0 && maxDrivers <= 0) {
+            return;
+        }
+        File cacheFolder = config.getCacheFolder().getAbsoluteFile();
+        Map<File, Long> accesses = pendingAccesses.computeIfAbsent(cacheFolder,
+                folder -> new ConcurrentHashMap<>());
+        boolean scheduled = !accesses.isEmpty();
+        accesses.put(driver.getAbsoluteFile(), System.currentTimeMillis());
+        if (!scheduled) {
+            evictionExecutor.execute(() -> {
+                try {
+                    evict(cacheFolder, maxBytes, maxDrivers);
+                } catch (Exception e) {
+                    log.warn("Exception evicting drivers from cache {} ({})",
+                            cacheFolder, e.getMessage());
+                }
+            });
+        }
+    }
+
+    public static List<File> evict(File cacheFolder, long maxBytes,
+            int maxDrivers) throws IOException {
+        File accessFile = new File(cacheFolder, ACCESS);
+        List<File> evicted = new ArrayList<>();
+        try (CacheLock lock = CacheLock.lock(accessFile)) {
+            Properties lastAccess = new SortedProperties();
+            if (accessFile.exists()) {
+                try (InputStream fis = new FileInputStream(accessFile)) {
+                    lastAccess.load(fis);
+                }
+            }
+            // The total size is kept up to date with the new versions, and
+            // therefore the cache is only scanned when it exceeds its quota
+            // (or the total size is unknown)
+            long totalBytes = Long.parseLong(
+                    (String) lastAccess.getOrDefault(TOTAL_SIZE, "-1"));
+            lastAccess.remove(TOTAL_SIZE);
+            List<String> newVersions = storePendingAccesses(cacheFolder,
+                    lastAccess);
+            newVersions.addAll(storeManifestVersions(cacheFolder, lastAccess));
+            if (lastAccess.keySet().removeIf(
+                    key -> !new File(cacheFolder, key.toString()).exists())) {
+                totalBytes = -1;
+            }
+            if (totalBytes >= 0) {
+                for (String version : newVersions) {
+                    // Overestimated for links to the blob store (fixed when
+                    // the cache is scanned)
+                    totalBytes += sizeOfDirectory(
+                            new File(cacheFolder, version));
+                }
+            }
+
+            if (totalBytes < 0 || maxBytes > 0 && totalBytes > maxBytes
+                    || maxDrivers > 0 && lastAccess.size() > maxDrivers) {
+                totalBytes = evictLeastRecentlyUsed(cacheFolder, lastAccess,
+                        maxBytes, maxDrivers, evicted);
+                lastAccess.keySet().removeIf(
+                        key -> !new File(cacheFolder, key.toString()).exists());
+            }
+            lastAccess.put(TOTAL_SIZE, String.valueOf(totalBytes));
+            writeAccessFile(accessFile, lastAccess);
+        }
+        return evicted;
+    }
+
+    private static long evictLeastRecentlyUsed(File cacheFolder,
+            Properties lastAccess, long maxBytes, int maxDrivers,
+            List<File> evicted) throws IOException {
+        // The drivers are links to the blob store, and therefore the size of
+        // each blob is counted once, and blobs are deleted when they are no
+        // longer referenced
+        Map<Object, Blob> blobs = getBlobs(cacheFolder);
+        List<CachedVersion> versions = getCachedVersions(cacheFolder,
+                lastAccess, blobs);
+        countReferences(cacheFolder, blobs);
+        for (Blob blob : blobs.values()) {
+            if (blob.references == 0) {
+                deleteBlob(cacheFolder, blob);
+            }
+        }
+        long totalBytes = versions.stream().mapToLong(v -> v.size).sum()
+                + blobs.values().stream().filter(b -> b.references > 0)
+                        .mapToLong(b -> b.size).sum();
+        versions.sort(Comparator.comparingLong(v -> v.lastAccess));
+
+        Iterator<CachedVersion> iterator = versions.iterator();
+        int count = versions.size();
+        while (iterator.hasNext()
+                && (maxBytes > 0 && totalBytes > maxBytes
+                        || maxDrivers > 0 && count > maxDrivers)) {
+            CachedVersion version = iterator.next();
+            log.debug("Evicting {} from cache (last used {})", version.folder,
+                    version.lastAccess);
+            try {
+                deleteDirectory(version.folder);
+                evicted.add(version.folder);
+                totalBytes -= version.size;
+                count--;
+                for (Blob blob : version.blobs) {
+                    if (--blob.references == 0) {
+                        deleteBlob(cacheFolder, blob);
+                        totalBytes -= blob.size;
+                    }
+                }
+            } catch (IOException e) {
+                // E.g., driver in use in Windows
+                log.warn("Exception evicting {} from cache ({})",
+                        version.folder, e.getMessage());
+            }
+        }
+        return totalBytes;
+    }
+
+    private static List<String> storePendingAccesses(File cacheFolder,
+            Properties lastAccess) {
+        List<String> newVersions = new ArrayList<>();
+        Map<File, Long> accesses = pendingAccesses.get(cacheFolder);
+        if (accesses == null) {
+            return newVersions;
+        }
+        for (Iterator<Entry<File, Long>> iterator = accesses.entrySet()
+                .iterator(); iterator.hasNext();) {
+            Entry<File, Long> access = iterator.next();
+            iterator.remove();
+            Optional<String> version = getVersion(cacheFolder,
+                    access.getKey());
+            if (version.isPresent() && lastAccess.put(version.get(),
+                    String.valueOf(access.getValue())) == null) {
+                newVersions.add(version.get());
+            }
+        }
+        return newVersions;
+    }
+
+    private static List<String> storeManifestVersions(File cacheFolder,
+            Properties lastAccess) {
+        // Only the drivers installed by WebDriverManager are evicted, since
+        // the cache can be shared with other tools (e.g., the browsers of
+        // Selenium Manager)
+        List<String> newVersions = new ArrayList<>();
+        for (File driver : new DriverManifest(cacheFolder).getDrivers()) {
+            Optional<String> version = getVersion(cacheFolder, driver);
+            if (version.isPresent()
+                    && !lastAccess.containsKey(version.get())) {
+                File versionFolder = new File(cacheFolder, version.get());
+                lastAccess.put(version.get(),
+                        String.valueOf(versionFolder.lastModified()));
+                newVersions.add(version.get());
+            }
+        }
+        return newVersions;
+    }
+
+    private static Optional<String> getVersion(File cacheFolder,
+            File driver) {
+        Path cachePath = cacheFolder.getAbsoluteFile().toPath();
+        Path driverPath = driver.getAbsoluteFile().toPath();
+        if (driverPath.startsWith(cachePath) && cachePath.relativize(driverPath)
+                .getNameCount() > VERSION_DEPTH) {
+            return Optional.of(cachePath.relativize(driverPath)
+                    .subpath(0, VERSION_DEPTH).toString());
+        }
+        return Optional.empty();
+    }
+
+    private static List<CachedVersion> getCachedVersions(File cacheFolder,
+            Properties lastAccess, Map<Object, Blob> blobs)
+            throws IOException {
+        List<CachedVersion> versions = new ArrayList<>();
+        for (String key : lastAccess.stringPropertyNames()) {
+            File versionFolder = new File(cacheFolder, key);
+            CachedVersion version = new CachedVersion(versionFolder,
+                    Long.parseLong(lastAccess.getProperty(key)));
+            for (Path file : listFiles(versionFolder.toPath())) {
+                Blob blob = blobs.isEmpty() ? null
+                        : blobs.get(getFileKey(file));
+                if (blob != null) {
+                    version.blobs.add(blob);
+                } else {
+                    version.size += Files.size(file);
+                }
+            }
+            versions.add(version);
+        }
+        return versions;
+    }
+
+    private static Map<Object, Blob> getBlobs(File cacheFolder)
+            throws IOException {
+        Map<Object, Blob> blobs = new HashMap<>();
+        File[] blobFiles = new BlobStore(cacheFolder).blobsFolder
+                .listFiles(file -> file.isFile()
+                        && !file.getName().endsWith(".tmp")
+                        && !CacheLock.isLockFile(file));
+        if (blobFiles != null) {
+            for (File blobFile : blobFiles) {
+                Object fileKey = getFileKey(blobFile.toPath());
+                if (fileKey == null) {
+                    // E.g., in Windows, the links to the blobs cannot be
+                    // identified, and therefore the blobs are not deleted
+                    log.trace("File keys not supported in {}", cacheFolder);
+                    return new HashMap<>();
+                }
+                blobs.put(fileKey, new Blob(blobFile));
+            }
+        }
+        return blobs;
+    }
+
+    private static void countReferences(File cacheFolder,
+            Map<Object, Blob> blobs) throws IOException {
+        // All the links are counted, including the drivers being installed
+        // (in hidden staging folders)
+        if (blobs.isEmpty()) {
+            return;
+        }
+        Path blobsPath = new File(cacheFolder, BlobStore.BLOBS).toPath();
+        for (Path file : listFiles(cacheFolder.toPath())) {
+            if (!file.startsWith(blobsPath)) {
+                Blob blob = blobs.get(getFileKey(file));
+                if (blob != null) {
+                    blob.references++;
+                }
+            }
+        }
+    }
+
+    private static List<Path> listFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            return files.filter(Files::isRegularFile).collect(toList());
+        }
+    }
+
+    private static Object getFileKey(Path file) throws IOException {
+        // The file key (e.g., the inode) is the same for the hard links (and
+        // symbolic links) of a blob
+        return Files.readAttributes(file, BasicFileAttributes.class)
+                .fileKey();
+    }
+
+    private static void deleteBlob(File cacheFolder, Blob blob) {
+        File blobsFolder = new BlobStore(cacheFolder).blobsFolder;
+        try (CacheLock lock = CacheLock.lock(blobsFolder)) {
+            if (isLinked(blob.file.toPath())) {
+                // E.g., linked by a concurrent installation
+                log.trace("Blob {} linked again ... not deleted", blob.file);
+                return;
+            }
+            log.debug("Deleting unreferenced blob {}", blob.file);
+            Files.deleteIfExists(blob.file.toPath());
+        } catch (IOException e) {
+            log.warn("Exception deleting blob {} ({})", blob.file,
+                    e.getMessage());
+        }
+    }
+
+    private static boolean isLinked(Path blob) throws IOException {
+        try {
+            return ((Number) Files.getAttribute(blob, "unix:nlink"))
+                    .intValue() > 1;
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void writeAccessFile(File accessFile, Properties lastAccess)
+            throws IOException {
+        File tmpFile = File.createTempFile(ACCESS, ".tmp",
+                accessFile.getParentFile());
+        try (OutputStream fos = new FileOutputStream(tmpFile)) {
+            lastAccess.store(fos, ACCESS_INFO);
+        }
+        Files.move(tmpFile.toPath(), accessFile.toPath(), REPLACE_EXISTING,
+                ATOMIC_MOVE);
+    }
+
+    static class CachedVersion {
+        final File folder;
+        final long lastAccess;
+        final List<Blob> blobs = new ArrayList<>();
+        long size; // Not including blobs
+
+        CachedVersion(File folder, long lastAccess) {
+            this.folder = folder;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    static class Blob {
+        final File file;
+        final long size;
+        int references;
+
+        Blob(File file) {
+            this.file = file;
+            this.size = file.length();
+        }
+    }
+
+}
@@ -37,6 +37,8 @@ import org.slf4j.Logger;
 import io.github.bonigarcia.wdm.config.Architecture;
 import io.github.bonigarcia.wdm.config.Config;
 import io.github.bonigarcia.wdm.config.DriverManagerType;
+import io.github.bonigarcia.wdm.online.Downloader;
+import io.github.bonigarcia.wdm.online.ResumableDownloader;
 
 /**
  * Logic for filtering driver cache.
@@ -49,11 +51,30 @@ public class CacheHandler {
     final Logger log = getLogger(lookup().lookupClass());
 
     private Config config;
+    private DriverManifest driverManifest;
 
     public CacheHandler(Config config) {
         this.config = config;
     }
 
+    public synchronized DriverManifest getDriverManifest() {
+        // The cache folder can be changed after creating this handler
+        File cacheFolder = config.getCacheFolder();
+        if (driverManifest == null || !driverManifest.getManifestFile()
+                .getParentFile().equals(cacheFolder)) {
+            driverManifest = new DriverManifest(cacheFolder);
+        }
+        return driverManifest;
+    }
+
+    public void storeDriverInCache(String driverVersion, String driverName,
+            Architecture arch, String os, File driver) {
+        if (!driverVersion.isEmpty()) {
+            getDriverManifest().putDriver(driverName, driverVersion, os, arch,
+                    driver);
+        }
+    }
+
     public List<File> filterCacheBy(List<File> input, String key,
             boolean isVersion) {
         String pathSeparator = isVersion ? separator : "";
@@ -73,6 +94,9 @@ public class CacheHandler {
     public List<File> getFilesInCache() {
         List<File> listFiles = (List<File>) listFiles(config.getCacheFolder(),
                 null, true);
+        listFiles.removeIf(file -> ResumableDownloader.isPartialDownload(file)
+                || CacheLock.isLockFile(file) || Downloader.isStaged(file)
+                || DriverDigests.isDigestFile(file));
         sort(listFiles);
         return listFiles;
     }
@@ -81,6 +105,48 @@ public class CacheHandler {
             String driverName, DriverManagerType driverManagerType,
             Architecture arch, String os) {
         log.trace("Checking if {} exists in cache", driverName);
+        if (!driverVersion.isEmpty()) {
+            Optional<File> driverInManifest = getDriverManifest().getDriver(
+                    driverName, driverVersion, os, arch);
+            if (driverInManifest.isPresent()) {
+                if (isCorrupted(driverInManifest.get())) {
+                    return Optional.empty();
+                }
+                CacheEvictor.recordAccess(config, driverInManifest.get());
+                return Optional.of(driverInManifest.get().toString());
+            }
+        }
+
+        Optional<String> driverInCache = findDriverInCache(driverVersion,
+                driverName, driverManagerType, arch, os);
+        if (driverInCache.isPresent() && driverInCache.get()
+                .contains(separator + driverVersion + separator)) {
+            // Drivers installed before using the manifest are indexed once
+            storeDriverInCache(driverVersion, driverName, arch, os,
+                    new File(driverInCache.get()));
+        }
+        if (driverInCache.isPresent()) {
+            if (isCorrupted(new File(driverInCache.get()))) {
+                return Optional.empty();
+            }
+            CacheEvictor.recordAccess(config, new File(driverInCache.get()));
+        }
+        return driverInCache;
+    }
+
+    private boolean isCorrupted(File driver) {
+        // Corrupted drivers are downloaded again
+        boolean corrupted = !new DriverDigests().verify(driver);
+        if (corrupted) {
+            log.warn("{} in cache is corrupted ... downloading it again",
+                    driver);
+        }
+        return corrupted;
+    }
+
+    private Optional<String> findDriverInCache(String driverVersion,
+            String driverName, DriverManagerType driverManagerType,
+            Architecture arch, String os) {
         List<File> filesInCache = getFilesInCache();
         if (!filesInCache.isEmpty()) {
             // Filter by name
@@ -0,0 +1,230 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+
+/**
+ * Advisory lock (based on a lock file) to coordinate the access to the cache
+ * among threads and processes.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class CacheLock implements Closeable {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final String LOCK = ".lock";
+    static final int MAX_OWNER_LENGTH = 256;
+
+    // File locks are held by the whole JVM, and therefore threads are
+    // serialized by this lock before trying to lock the file
+    static final ConcurrentHashMap<String, ReentrantLock> threadLocks = new ConcurrentHashMap<>();
+
+    static final long POLL_INTERVAL_MS = 200;
+
+    static final ScheduledExecutorService heartbeatExecutor = Executors
+            .newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wdm-lock-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    ReentrantLock threadLock;
+    FileChannel channel;
+    FileLock fileLock;
+    boolean ownerWritten;
+    ScheduledFuture<?> heartbeat;
+
+    CacheLock(ReentrantLock threadLock, FileChannel channel,
+            FileLock fileLock) {
+        this.threadLock = threadLock;
+        this.channel = channel;
+        this.fileLock = fileLock;
+    }
+
+    public static CacheLock lock(File file) throws IOException {
+        File lockFile = new File(file.getPath() + LOCK);
+        ReentrantLock threadLock = threadLocks.computeIfAbsent(
+                lockFile.getAbsolutePath(), path -> new ReentrantLock());
+        threadLock.lock();
+        if (threadLock.getHoldCount() > 1) {
+            // Reentrant acquisition: the file is already locked
+            return new CacheLock(threadLock, null, null);
+        }
+        try {
+            FileChannel channel = FileChannel.open(lockFile.toPath(), CREATE,
+                    READ, WRITE);
+            try {
+                log.trace("Locking {}", lockFile);
+                return new CacheLock(threadLock, channel, channel.lock());
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            threadLock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Lock held during long operations (e.g., driver installations). The
+     * owner (process and host) is written in the lock file, and it is removed
+     * when released. A lock file found with an owner when locking belongs to
+     * a crashed process. While the lock is held, the modification time of the
+     * lock file is refreshed periodically (heartbeat). When the lock cannot be
+     * acquired and the lock file has not been refreshed during staleMillis
+     * (e.g., locks not released in network file systems), the lock file is
+     * taken over.
+     */
+    public static CacheLock lock(File file, long staleMillis)
+            throws IOException {
+        File lockFile = new File(file.getPath() + LOCK);
+        ReentrantLock threadLock = threadLocks.computeIfAbsent(
+                lockFile.getAbsolutePath(), path -> new ReentrantLock());
+        threadLock.lock();
+        if (threadLock.getHoldCount() > 1) {
+            return new CacheLock(threadLock, null, null);
+        }
+        try {
+            File parent = lockFile.getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            boolean waiting = false;
+            while (true) {
+                FileChannel channel = FileChannel.open(lockFile.toPath(),
+                        CREATE, READ, WRITE);
+                FileLock fileLock = null;
+                try {
+                    fileLock = channel.tryLock();
+                    String owner = readOwner(channel);
+                    if (fileLock != null && lockFile.exists()) {
+                        if (!owner.isEmpty()) {
+                            log.debug("Taking over lock {} of crashed process {}",
+                                    lockFile, owner);
+                        }
+                        CacheLock lock = new CacheLock(threadLock, channel,
+                                fileLock);
+                        lock.writeOwner();
+                        lock.startHeartbeat(lockFile, staleMillis);
+                        return lock;
+                    }
+                    if (fileLock == null && lockFile.lastModified()
+                            + staleMillis < System.currentTimeMillis()) {
+                        log.warn("Lock {} of {} is stale ... taking it over",
+                                lockFile, owner);
+                        Files.deleteIfExists(lockFile.toPath());
+                    } else if (fileLock == null && !waiting) {
+                        log.info("Waiting for {} locked by other process {}",
+                                file.getName(), owner);
+                        waiting = true;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    channel.close();
+                    throw e;
+                }
+                if (fileLock != null) {
+                    fileLock.release();
+                }
+                channel.close();
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            threadLock.unlock();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for lock " + lockFile,
+                    e);
+        } catch (IOException | RuntimeException e) {
+            threadLock.unlock();
+            throw e;
+        }
+    }
+
+    public static boolean isLockFile(File file) {
+        return file.getName().endsWith(LOCK);
+    }
+
+    private static String readOwner(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(
+                channel.size(), MAX_OWNER_LENGTH));
+        channel.read(buffer, 0);
+        return new String(buffer.array(), 0, buffer.position(), UTF_8)
+                .trim();
+    }
+
+    private void startHeartbeat(File lockFile, long staleMillis) {
+        long period = Math.max(staleMillis / 3, 1);
+        heartbeat = heartbeatExecutor.scheduleAtFixedRate(() -> {
+            if (!lockFile.setLastModified(System.currentTimeMillis())) {
+                log.trace("Error refreshing lock {}", lockFile);
+            }
+        }, period, period, MILLISECONDS);
+    }
+
+    private void writeOwner() throws IOException {
+        String owner = ManagementFactory.getRuntimeMXBean().getName();
+        channel.truncate(0);
+        channel.write(ByteBuffer.wrap(owner.getBytes(UTF_8)), 0);
+        ownerWritten = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (heartbeat != null) {
+                heartbeat.cancel(false);
+            }
+            if (ownerWritten) {
+                channel.truncate(0);
+            }
+            if (fileLock != null) {
+                fileLock.release();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } finally {
+            threadLock.unlock();
+        }
+    }
+
+}
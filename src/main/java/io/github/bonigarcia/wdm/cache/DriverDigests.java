@@ -0,0 +1,134 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+
+/**
+ * SHA-256 digests of the drivers stored in the cache, together with their size
+ * and last modification time. Each digest is stored next to its driver (e.g.,
+ * chromedriver.sha256), and therefore it is independent of the path where the
+ * cache is mounted. The digest is calculated while the driver is downloaded,
+ * and the driver is only hashed again when its size or last modification time
+ * are not the recorded.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class DriverDigests {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String DIGEST_EXTENSION = ".sha256";
+    static final String SEPARATOR = "|";
+
+    public void record(File driver, String digest) {
+        String value = String.join(SEPARATOR, digest,
+                String.valueOf(driver.length()),
+                String.valueOf(driver.lastModified()));
+        log.trace("Storing digest of {} ({})", driver, value);
+        store(getDigestFile(driver), value);
+    }
+
+    public boolean verify(File driver) {
+        String value = load(getDigestFile(driver));
+        if (value == null) {
+            // E.g., drivers downloaded by former versions of WebDriverManager
+            return true;
+        }
+        String[] entry = value.split(Pattern.quote(SEPARATOR));
+        if (entry.length != 3) {
+            return true;
+        }
+        long size = Long.parseLong(entry[1]);
+        long lastModified = Long.parseLong(entry[2]);
+        if (driver.length() != size) {
+            log.warn("Size of {} is {} bytes (expected {})", driver,
+                    driver.length(), size);
+            return false;
+        }
+        if (driver.lastModified() == lastModified) {
+            return true;
+        }
+        try {
+            String digest = BlobStore.sha256(driver);
+            if (digest.equals(entry[0])) {
+                log.trace("Digest of {} verified after modification", driver);
+                record(driver, digest);
+                return true;
+            }
+            log.warn("SHA-256 of {} is {} (expected {})", driver, digest,
+                    entry[0]);
+        } catch (IOException e) {
+            log.warn("Exception calculating SHA-256 of {} ({})", driver,
+                    e.getMessage());
+        }
+        return false;
+    }
+
+    public static File getDigestFile(File driver) {
+        return new File(driver.getParentFile(),
+                driver.getName() + DIGEST_EXTENSION);
+    }
+
+    public static boolean isDigestFile(File file) {
+        return file.getName().endsWith(DIGEST_EXTENSION);
+    }
+
+    private String load(File digestFile) {
+        if (!digestFile.exists()) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(digestFile.toPath()), UTF_8)
+                    .trim();
+        } catch (IOException e) {
+            log.warn("Exception reading digest {} ({})", digestFile,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(File digestFile, String value) {
+        File folder = digestFile.getParentFile();
+        if (!folder.exists()) {
+            return;
+        }
+        try {
+            File tmpFile = File.createTempFile(digestFile.getName(), ".tmp",
+                    folder);
+            Files.write(tmpFile.toPath(), value.getBytes(UTF_8));
+            Files.move(tmpFile.toPath(), digestFile.toPath(), REPLACE_EXISTING,
+                    ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Exception writing digest {} ({})", digestFile,
+                    e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Locale.ROOT;
+import static java.util.Optional.empty;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache.SortedProperties;
+import io.github.bonigarcia.wdm.config.Architecture;
+
+/**
+ * Index of the drivers stored in the cache (manifest.properties in the cache
+ * folder), keyed by driver name, version, operating system, and architecture.
+ * It avoids scanning the whole cache folder to find a driver. The paths are
+ * relative to the cache folder, and therefore the manifest is valid wherever
+ * the cache is mounted.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class DriverManifest {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String MANIFEST = "manifest.properties";
+    static final String MANIFEST_INFO = "WebDriverManager Driver Cache Manifest";
+    static final String SEPARATOR = "|";
+
+    File cacheFolder;
+    File manifestFile;
+    Properties entries;
+    String loadedStamp;
+
+    public DriverManifest(File cacheFolder) {
+        this.cacheFolder = cacheFolder;
+        this.manifestFile = new File(cacheFolder, MANIFEST);
+    }
+
+    public synchronized Optional<File> getDriver(String driverName,
+            String driverVersion, String os, Architecture arch) {
+        String key = getKey(driverName, driverVersion, os, arch);
+        String path = getEntries().getProperty(key);
+        if (path == null && reload()) {
+            path = entries.getProperty(key);
+        }
+        if (path != null) {
+            File driver = toFile(path);
+            if (driver.isFile()) {
+                log.trace("Driver {} found in cache manifest: {}", key, driver);
+                return Optional.of(driver);
+            }
+            log.debug("Removing {} from cache manifest (not found {})", key,
+                    driver);
+            update(key, null);
+        }
+        return empty();
+    }
+
+    public synchronized void putDriver(String driverName, String driverVersion,
+            String os, Architecture arch, File driver) {
+        String key = getKey(driverName, driverVersion, os, arch);
+        String path = toPath(driver);
+        if (!path.equals(getEntries().getProperty(key))) {
+            log.trace("Storing {}={} in cache manifest", key, path);
+            update(key, path);
+        }
+    }
+
+    public synchronized List<File> getDrivers() {
+        reload();
+        return getEntries().values().stream()
+                .map(path -> toFile(path.toString())).collect(toList());
+    }
+
+    public File getManifestFile() {
+        return manifestFile;
+    }
+
+    private String toPath(File driver) {
+        Path cachePath = cacheFolder.getAbsoluteFile().toPath();
+        Path driverPath = driver.getAbsoluteFile().toPath();
+        if (!driverPath.startsWith(cachePath)) {
+            return driverPath.toString();
+        }
+        // Separated by slash, so the manifest can be shared among systems
+        return cachePath.relativize(driverPath).toString()
+                .replace(File.separatorChar, '/');
+    }
+
+    private File toFile(String path) {
+        // Absolute paths are stored by former versions of WebDriverManager
+        // (and for drivers out of the cache folder)
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(cacheFolder, path);
+    }
+
+    private String getKey(String driverName, String driverVersion, String os,
+            Architecture arch) {
+        return String.join(SEPARATOR, driverName, driverVersion, os,
+                arch.toString()).toLowerCase(ROOT);
+    }
+
+    private Properties getEntries() {
+        if (entries == null) {
+            entries = new SortedProperties();
+            try {
+                load(entries);
+            } catch (IOException e) {
+                log.warn("Exception reading cache manifest {} ({})",
+                        manifestFile, e.getMessage());
+            }
+        }
+        return entries;
+    }
+
+    private boolean reload() {
+        // Drivers installed by other processes since the last load
+        if (getStamp().equals(loadedStamp)) {
+            return false;
+        }
+        Properties reloaded = new SortedProperties();
+        try {
+            load(reloaded);
+            entries = reloaded;
+            return true;
+        } catch (IOException e) {
+            log.warn("Exception reading cache manifest {} ({})", manifestFile,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private void load(Properties target) throws IOException {
+        String stamp = getStamp();
+        if (manifestFile.exists()) {
+            try (InputStream fis = new FileInputStream(manifestFile)) {
+                target.load(fis);
+            }
+        }
+        loadedStamp = stamp;
+    }
+
+    private void update(String key, String value) {
+        if (!manifestFile.getParentFile().exists()) {
+            return;
+        }
+        try (CacheLock lock = CacheLock.lock(manifestFile)) {
+            // The changes of other processes are merged before writing
+            Properties merged = new SortedProperties();
+            load(merged);
+            if (value == null) {
+                merged.remove(key);
+            } else {
+                merged.put(key, value);
+            }
+            File tmpFile = File.createTempFile(MANIFEST, ".tmp",
+                    manifestFile.getParentFile());
+            try (OutputStream fos = new FileOutputStream(tmpFile)) {
+                merged.store(fos, MANIFEST_INFO);
+            }
+            Files.move(tmpFile.toPath(), manifestFile.toPath(),
+                    REPLACE_EXISTING, ATOMIC_MOVE);
+            loadedStamp = getStamp();
+            entries = merged;
+        } catch (Exception e) {
+            log.warn("Exception writing cache manifest {} ({})", manifestFile,
+                    e.getMessage());
+        }
+    }
+
+    private String getStamp() {
+        return manifestFile.lastModified() + "/" + manifestFile.length();
+    }
+
+}
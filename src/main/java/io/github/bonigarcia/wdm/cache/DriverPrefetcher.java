@@ -0,0 +1,96 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Background prefetch of the upcoming driver versions (e.g., the driver of the
+ * next browser release) into the cache. The prefetch tasks run one by one in a
+ * low-priority daemon thread, at most once per driver and cache in each TTL
+ * period.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class DriverPrefetcher {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final ExecutorService prefetchExecutor = Executors
+            .newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wdm-prefetch");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+
+    // Time of the last prefetch, by driver and cache folder
+    static final Map<String, Long> lastPrefetch = new ConcurrentHashMap<>();
+
+    private DriverPrefetcher() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Future<?> prefetch(Config config, String driverName,
+            PrefetchTask task) {
+        File cacheFolder = config.getCacheFolder().getAbsoluteFile();
+        String key = driverName + "@" + cacheFolder;
+        long now = System.currentTimeMillis();
+        long ttlMillis = SECONDS.toMillis(config.getTtl());
+        Long previous = lastPrefetch.get(key);
+        if (previous != null && now - previous < ttlMillis
+                || !isFirst(key, previous, now)) {
+            log.trace("Prefetch of {} already done in {}", driverName,
+                    cacheFolder);
+            return null;
+        }
+        return prefetchExecutor.submit(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.debug("Exception prefetching {} ({})", driverName,
+                        e.getMessage());
+            }
+        });
+    }
+
+    private static boolean isFirst(String key, Long previous, long now) {
+        // Only one thread schedules the prefetch of each key
+        return previous == null ? lastPrefetch.putIfAbsent(key, now) == null
+                : lastPrefetch.replace(key, previous, now);
+    }
+
+    @FunctionalInterface
+    public interface PrefetchTask {
+        void run() throws Exception;
+    }
+
+}
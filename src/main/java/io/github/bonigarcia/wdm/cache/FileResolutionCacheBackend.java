@@ -0,0 +1,381 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.Optional.empty;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache.SortedProperties;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Resolution cache backend based on a properties file (by default,
+ * resolution.properties in the cache folder).
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class FileResolutionCacheBackend implements ResolutionCacheBackend {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String RESOLUTION_CACHE_INFO = "WebDriverManager Resolution Cache";
+    static final String JOURNAL = ".journal";
+    static final String COMPACTING = ".compacting";
+    static final int JOURNAL_COMPACTION_THRESHOLD = 100;
+
+    static final ExecutorService compactionExecutor = Executors
+            .newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable,
+                        "wdm-resolution-cache-compaction");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    File resolutionCacheFile;
+    File journalFile;
+    AtomicInteger journalRecords = new AtomicInteger();
+    AtomicBoolean compactionScheduled = new AtomicBoolean();
+    boolean lockEnabled;
+    volatile String loadedStamp;
+
+    public FileResolutionCacheBackend(Config config) {
+        this.lockEnabled = config.isResolutionCacheLock();
+        File resolutionCachePath = config.getResolutionCachePath();
+        this.resolutionCacheFile = new File(resolutionCachePath,
+                config.getResolutionCache());
+        if (config.isResolutionCacheJournal()) {
+            journalFile = new File(resolutionCachePath,
+                    config.getResolutionCache() + JOURNAL);
+        }
+    }
+
+    @Override
+    public Properties load() throws IOException {
+        if (!resolutionCacheFile.exists()) {
+            boolean createNewFile = resolutionCacheFile.createNewFile();
+            if (createNewFile) {
+                log.debug("Created new resolution cache file at {}",
+                        resolutionCacheFile);
+            }
+        }
+        Properties props = new SortedProperties();
+        if (isLockEnabled() || isJournalEnabled()) {
+            // The journal is read under the lock (like its compaction), since
+            // otherwise the records being compacted can be missed
+            try (CacheLock lock = CacheLock.lock(resolutionCacheFile)) {
+                loadProperties(props);
+            }
+        } else {
+            loadProperties(props);
+        }
+        if (isJournalEnabled()) {
+            compactJournalIfRequired();
+        }
+        return props;
+    }
+
+    @Override
+    public Optional<Properties> reload() {
+        // Entries stored by other processes since the last load (only when
+        // these processes are coordinated by the lock)
+        if (!isLockEnabled() || getStamp().equals(loadedStamp)) {
+            return empty();
+        }
+        try (CacheLock lock = CacheLock.lock(resolutionCacheFile)) {
+            Properties refreshed = new SortedProperties();
+            loadProperties(refreshed);
+            log.trace("Reloaded resolution cache from {}", resolutionCacheFile);
+            return Optional.of(refreshed);
+        } catch (Exception e) {
+            log.warn("Exception reloading resolution cache {}",
+                    e.getClass().getName());
+            return empty();
+        }
+    }
+
+    @Override
+    public synchronized Optional<Properties> store(Properties props,
+            String... keyValuePairs) {
+        if (isJournalEnabled()) {
+            appendToJournal(keyValuePairs);
+            return empty();
+        }
+        if (isLockEnabled()) {
+            return mergeProperties(true, keyValuePairs);
+        }
+        try (OutputStream fos = new FileOutputStream(resolutionCacheFile)) {
+            props.store(fos, RESOLUTION_CACHE_INFO);
+        } catch (Exception e) {
+            log.warn(
+                    "Exception writing resolution cache as a properties file {}",
+                    e.getClass().getName());
+        }
+        return empty();
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (isLockEnabled()) {
+            mergeProperties(false);
+        } else {
+            try (OutputStream fos = new FileOutputStream(
+                    resolutionCacheFile)) {
+                new SortedProperties().store(fos, RESOLUTION_CACHE_INFO);
+            } catch (Exception e) {
+                log.warn(
+                        "Exception writing resolution cache as a properties file {}",
+                        e.getClass().getName());
+            }
+        }
+        if (isJournalEnabled()) {
+            synchronized (compactionExecutor) {
+                deleteJournal(journalFile);
+                deleteJournal(getCompactingFile());
+                journalRecords.set(0);
+            }
+        }
+    }
+
+    private void loadProperties(Properties target) throws IOException {
+        String stamp = getStamp();
+        try (InputStream fis = new FileInputStream(resolutionCacheFile)) {
+            target.load(fis);
+        }
+        if (isJournalEnabled()) {
+            replayJournal(getCompactingFile(), target);
+            journalRecords.set(replayJournal(journalFile, target));
+        }
+        loadedStamp = stamp;
+    }
+
+    private String getStamp() {
+        String stamp = resolutionCacheFile.lastModified() + "/"
+                + resolutionCacheFile.length();
+        if (isJournalEnabled()) {
+            stamp += "/" + journalFile.length();
+        }
+        return stamp;
+    }
+
+    private Optional<Properties> mergeProperties(boolean merge,
+            String... keyValuePairs) {
+        try (CacheLock lock = CacheLock.lock(resolutionCacheFile)) {
+            // Other processes may have stored their entries since the last
+            // load, so the changes are applied over the current file content
+            Properties merged = new SortedProperties();
+            if (merge) {
+                loadProperties(merged);
+            }
+            ResolutionCache.applyChanges(merged, keyValuePairs);
+            writeProperties(merged);
+            loadedStamp = getStamp();
+            return Optional.of(merged);
+        } catch (Exception e) {
+            log.warn("Exception merging resolution cache into {} {}",
+                    resolutionCacheFile, e.getClass().getName());
+            return empty();
+        }
+    }
+
+    private void writeProperties(Properties properties) throws IOException {
+        File tmpFile = File.createTempFile(resolutionCacheFile.getName(),
+                ".tmp", resolutionCacheFile.getParentFile());
+        try (OutputStream fos = new FileOutputStream(tmpFile)) {
+            properties.store(fos, RESOLUTION_CACHE_INFO);
+        }
+        Files.move(tmpFile.toPath(), resolutionCacheFile.toPath(),
+                REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    private boolean isJournalEnabled() {
+        return journalFile != null;
+    }
+
+    private boolean isLockEnabled() {
+        return lockEnabled;
+    }
+
+    private File getCompactingFile() {
+        return new File(journalFile.getPath() + COMPACTING);
+    }
+
+    private void appendToJournal(String... keyValuePairs) {
+        Properties record = new SortedProperties();
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            record.put(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        try {
+            // A single append per record, so concurrent writers (e.g., other
+            // JVMs sharing the same cache) do not interleave their entries
+            Files.write(journalFile.toPath(), toJournalRecord(record), CREATE,
+                    APPEND);
+            journalRecords.incrementAndGet();
+            compactJournalIfRequired();
+        } catch (Exception e) {
+            log.warn("Exception appending to resolution cache journal {}",
+                    e.getClass().getName());
+        }
+    }
+
+    private byte[] toJournalRecord(Properties record) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        record.store(out, null);
+
+        // Properties.store() always writes a timestamp comment first
+        StringBuilder lines = new StringBuilder();
+        for (String line : new String(out.toByteArray(), ISO_8859_1)
+                .split("\\R")) {
+            if (!line.startsWith("#")) {
+                lines.append(line).append('\n');
+            }
+        }
+        return lines.toString().getBytes(ISO_8859_1);
+    }
+
+    private int replayJournal(File journal, Properties target)
+            throws IOException {
+        if (!journal.exists()) {
+            return 0;
+        }
+        AtomicInteger records = new AtomicInteger();
+        Properties replay = new Properties() {
+            private static final long serialVersionUID = -2541096271468529418L;
+
+            @Override
+            public synchronized Object put(Object key, Object value) {
+                records.incrementAndGet();
+                return value.toString().isEmpty() ? target.remove(key)
+                        : target.put(key, value);
+            }
+        };
+        try (InputStream fis = new FileInputStream(journal)) {
+            replay.load(fis);
+        }
+        log.trace("Replayed {} records from resolution cache journal {}",
+                records, journal);
+        return records.get();
+    }
+
+    private void compactJournalIfRequired() {
+        if (journalRecords.get() >= JOURNAL_COMPACTION_THRESHOLD
+                && compactionScheduled.compareAndSet(false, true)) {
+            compactionExecutor.execute(() -> {
+                try {
+                    compactJournal();
+                } finally {
+                    compactionScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    void compactJournal() {
+        // The journal is always compacted under the lock (even when it is not
+        // enabled for the regular accesses), since other processes can be
+        // compacting or appending to the same journal
+        try (CacheLock lock = CacheLock.lock(resolutionCacheFile)) {
+            doCompactJournal();
+        } catch (IOException e) {
+            log.warn("Exception locking resolution cache {}",
+                    e.getClass().getName());
+        }
+    }
+
+    private void doCompactJournal() {
+        synchronized (compactionExecutor) {
+            File compactingFile = getCompactingFile();
+            try {
+                Properties compacted = new SortedProperties();
+                try (InputStream fis = new FileInputStream(
+                        resolutionCacheFile)) {
+                    compacted.load(fis);
+                }
+                if (compactingFile.exists()) {
+                    // Left by an interrupted compaction (e.g., the process
+                    // was killed), since the compactions are done under the
+                    // lock. Its records are older than the journal ones.
+                    recoverCompactingFile(compactingFile, compacted);
+                }
+
+                // Further records (from this or other JVMs) go to a fresh
+                // journal while this one is folded into the properties file
+                if (journalFile.exists()) {
+                    Files.move(journalFile.toPath(), compactingFile.toPath(),
+                            ATOMIC_MOVE);
+                }
+                journalRecords.set(0);
+                int records = replayJournal(compactingFile, compacted);
+                writeProperties(compacted);
+                deleteJournal(compactingFile);
+                log.debug("Compacted {} records of resolution cache journal",
+                        records);
+            } catch (Exception e) {
+                log.warn("Exception compacting resolution cache journal {}",
+                        e.getClass().getName());
+            }
+        }
+    }
+
+    private void recoverCompactingFile(File compactingFile,
+            Properties compacted) throws IOException {
+        try {
+            int records = replayJournal(compactingFile, compacted);
+            writeProperties(compacted);
+            log.debug(
+                    "Recovered {} records of interrupted resolution cache compaction",
+                    records);
+        } catch (IllegalArgumentException e) {
+            log.warn("Discarding corrupted resolution cache journal {} ({})",
+                    compactingFile, e.getMessage());
+        }
+        deleteJournal(compactingFile);
+    }
+
+    private void deleteJournal(File journal) {
+        try {
+            Files.deleteIfExists(journal.toPath());
+        } catch (IOException e) {
+            log.warn("Exception deleting resolution cache journal {}",
+                    journal);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.util.Optional.empty;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache.SortedProperties;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Resolution cache backend kept in memory (i.e., nothing is written to disk),
+ * shared by all the managers of the same JVM. Useful for ephemeral
+ * environments, such as containers. Each change increases the version of the
+ * store, so it is only copied again when it has been changed by others.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class MemoryResolutionCacheBackend implements ResolutionCacheBackend {
+
+    static final Properties store = new SortedProperties();
+
+    static long version;
+
+    long loadedVersion = -1;
+
+    public MemoryResolutionCacheBackend(Config config) {
+        // No configuration required
+    }
+
+    @Override
+    public Properties load() {
+        synchronized (store) {
+            Properties props = new SortedProperties();
+            props.putAll(store);
+            loadedVersion = version;
+            return props;
+        }
+    }
+
+    @Override
+    public Optional<Properties> reload() {
+        synchronized (store) {
+            return loadedVersion == version ? empty() : Optional.of(load());
+        }
+    }
+
+    @Override
+    public Optional<Properties> store(Properties properties,
+            String... keyValuePairs) {
+        synchronized (store) {
+            // The local properties are up to date only if nobody else has
+            // changed the store since the last load
+            boolean upToDate = loadedVersion == version;
+            ResolutionCache.applyChanges(store, keyValuePairs);
+            version++;
+            if (upToDate) {
+                loadedVersion = version;
+            }
+        }
+        return empty();
+    }
+
+    @Override
+    public void clear() {
+        synchronized (store) {
+            store.clear();
+            version++;
+        }
+    }
+
+}
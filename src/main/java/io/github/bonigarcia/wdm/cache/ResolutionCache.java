@@ -17,20 +17,23 @@
 package io.github.bonigarcia.wdm.cache;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Locale.ROOT;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 
@@ -48,40 +51,42 @@ public class ResolutionCache {
     final Logger log = getLogger(lookup().lookupClass());
 
     static final String TTL = "-ttl";
-    static final String RESOLUTION_CACHE_INFO = "WebDriverManager Resolution Cache";
+    static final String ERROR = "-error";
 
-    Properties props = new Properties() {
-        private static final long serialVersionUID = 3734950329657085291L;
+    static final ExecutorService revalidationExecutor = Executors
+            .newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable,
+                        "wdm-resolution-cache-revalidation");
+                thread.setDaemon(true);
+                return thread;
+            });
 
-        @Override
-        public synchronized Enumeration<Object> keys() {
-            return Collections.enumeration(new TreeSet<Object>(super.keySet()));
-        }
-    };
+    volatile Properties props = new SortedProperties();
+
+    // Lookups go through this index, in which expiration dates are parsed
+    // once when loading the cache instead of on each lookup
+    volatile Map<String, Resolution> index = new ConcurrentHashMap<>();
 
     SimpleDateFormat dateFormat = new SimpleDateFormat("HH:mm:ss dd/MM/yyyy z");
     Config config;
-    File resolutionCacheFile;
+    ResolutionCacheBackend backend;
+    long gracePeriod;
+    Set<String> revalidatingKeys = ConcurrentHashMap.newKeySet();
 
     public ResolutionCache(Config config) {
+        this(config, config.isAvoidResolutionCache() ? null
+                : createBackend(config));
+    }
+
+    public ResolutionCache(Config config, ResolutionCacheBackend backend) {
         this.config = config;
+        this.backend = backend;
 
-        if (!config.isAvoidResolutionCache()) {
-            File resolutionCachePath = config.getResolutionCachePath();
-            this.resolutionCacheFile = new File(resolutionCachePath,
-                    config.getResolutionCache());
+        if (backend != null) {
+            this.gracePeriod = SECONDS
+                    .toMillis(config.getResolutionCacheGracePeriod());
             try {
-                if (!resolutionCacheFile.exists()) {
-                    boolean createNewFile = resolutionCacheFile.createNewFile();
-                    if (createNewFile) {
-                        log.debug("Created new resolution cache file at {}",
-                                resolutionCacheFile);
-                    }
-                }
-                try (InputStream fis = new FileInputStream(
-                        resolutionCacheFile)) {
-                    props.load(fis);
-                }
+                setProperties(backend.load());
             } catch (Exception e) {
                 throw new WebDriverManagerException(
                         "Exception reading resolution cache as a properties file",
@@ -90,78 +95,198 @@ public class ResolutionCache {
         }
     }
 
+    public static ResolutionCacheBackend createBackend(Config config) {
+        String backend = config.getResolutionCacheBackend();
+        switch (backend.toLowerCase(ROOT)) {
+        case "file":
+            return new FileResolutionCacheBackend(config);
+        case "memory":
+            return new MemoryResolutionCacheBackend(config);
+        case "server":
+            return new ServerResolutionCacheBackend(config);
+        default:
+            try {
+                return (ResolutionCacheBackend) Class.forName(backend)
+                        .getConstructor(Config.class).newInstance(config);
+            } catch (Exception e) {
+                throw new WebDriverManagerException(
+                        "Exception creating resolution cache backend "
+                                + backend,
+                        e);
+            }
+        }
+    }
+
     public String getValueFromResolutionCache(String key) {
-        return props.getProperty(key, null);
+        // Expired entries (not swept yet) are absent
+        Resolution resolution = getResolution(key);
+        return resolution != null && checkValidity(key, resolution)
+                ? resolution.value
+                : null;
     }
 
-    private Date getExpirationDateFromResolutionCache(String key) {
-        Date result = new Date(0);
+    private Resolution getResolution(String key) {
+        Resolution resolution = index.get(key);
+        if (resolution == null && backend != null) {
+            Optional<Properties> reloaded = backend.reload();
+            if (reloaded.isPresent()) {
+                setProperties(reloaded.get());
+                resolution = index.get(key);
+            }
+        }
+        return resolution;
+    }
+
+    private void setProperties(Properties properties) {
+        Map<String, Resolution> newIndex = new ConcurrentHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.endsWith(TTL)) {
+                newIndex.put(key, new Resolution(properties.getProperty(key),
+                        parseExpirationTime(key, properties
+                                .getProperty(getExpirationKey(key)))));
+            }
+        }
+        props = properties;
+        index = newIndex;
+    }
+
+    private long parseExpirationTime(String key, String expirationDate) {
         try {
-            result = dateFormat.parse(props.getProperty(getExpirationKey(key)));
-            return result;
+            synchronized (dateFormat) {
+                return dateFormat.parse(expirationDate).getTime();
+            }
         } catch (Exception e) {
             log.warn("Exception parsing date ({}) from resolution cache {}",
                     key, e.getMessage());
         }
-        return result;
+        return 0;
     }
 
     public void putValueInResolutionCacheIfEmpty(String key, String value,
             int ttl) {
-        if (ttl > 0 && getValueFromResolutionCache(key) == null) {
-            props.put(key, value);
+        if (getValueFromResolutionCache(key) == null) {
+            putValueInResolutionCache(key, value, ttl);
+        }
+    }
 
-            long now = new Date().getTime();
-            Date expirationDate = new Date(now + SECONDS.toMillis(ttl));
-            String expirationDateStr = formatDate(expirationDate);
+    public void putValueInResolutionCache(String key, String value, int ttl) {
+        if (ttl > 0) {
+            long expirationTime = System.currentTimeMillis()
+                    + SECONDS.toMillis(ttl);
+            String expirationDateStr = formatDate(expirationTime);
+            props.put(key, value);
             props.put(getExpirationKey(key), expirationDateStr);
+            index.put(key, new Resolution(value, expirationTime));
             if (log.isDebugEnabled()) {
                 log.debug("Storing resolution {}={} in cache (valid until {})",
                         key, value, expirationDateStr);
             }
-            storeProperties();
+            storeProperties(key, value, getExpirationKey(key),
+                    expirationDateStr);
         }
     }
 
-    private synchronized void storeProperties() {
-        try (OutputStream fos = new FileOutputStream(resolutionCacheFile)) {
-            props.store(fos, RESOLUTION_CACHE_INFO);
-        } catch (Exception e) {
-            log.warn(
-                    "Exception writing resolution cache as a properties file {}",
-                    e.getClass().getName());
+    private void storeProperties(String... keyValuePairs) {
+        if (backend != null) {
+            Optional<Properties> stored = backend.store(props, keyValuePairs);
+            if (stored.isPresent()) {
+                setProperties(stored.get());
+            }
+        }
+    }
+
+    static void applyChanges(Properties target, String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (keyValuePairs[i + 1].isEmpty()) {
+                target.remove(keyValuePairs[i]);
+            } else {
+                target.put(keyValuePairs[i], keyValuePairs[i + 1]);
+            }
         }
     }
 
     private void clearFromResolutionCache(String key) {
+        index.remove(key);
         props.remove(key);
         props.remove(getExpirationKey(key));
-        storeProperties();
+        // An empty value is the record for a removed key
+        storeProperties(key, "", getExpirationKey(key), "");
     }
 
     public void clear() {
         log.info("Clearing WebDriverManager resolution cache");
         props.clear();
-        storeProperties();
+        index.clear();
+        if (backend != null) {
+            backend.clear();
+        }
     }
 
-    private boolean checkValidity(String key, String value,
-            Date expirationDate) {
-        long now = new Date().getTime();
-        long expirationTime = expirationDate != null ? expirationDate.getTime()
-                : 0;
-        boolean isValid = value != null && expirationTime != 0
-                && expirationTime > now;
+    private boolean checkValidity(String key, Resolution resolution) {
+        // Within the grace period, expired entries (but errors) are still
+        // valid (although stale, see isStale())
+        long grace = key.endsWith(ERROR) ? 0 : gracePeriod;
+        boolean isValid = resolution.expirationTime != 0
+                && resolution.expirationTime + grace > System
+                        .currentTimeMillis();
         if (!isValid) {
-            log.debug("Removing resolution {}={} from cache (expired on {})",
-                    key, value, expirationDate);
+            // Expired entries are swept lazily, i.e., when looked up
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "Removing resolution {}={} from cache (expired on {})",
+                        key, resolution.value,
+                        formatDate(resolution.expirationTime));
+            }
             clearFromResolutionCache(key);
         }
         return isValid;
     }
 
-    private String formatDate(Date date) {
-        return date != null ? dateFormat.format(date) : "";
+    public void putErrorInResolutionCache(String key, Throwable error,
+            int ttl) {
+        putValueInResolutionCacheIfEmpty(key + ERROR,
+                error.getClass().getName(), ttl);
+    }
+
+    public Optional<String> getErrorFromResolutionCache(String key) {
+        String errorKey = key + ERROR;
+        return checkKeyInResolutionCache(errorKey, false)
+                ? Optional.ofNullable(getValueFromResolutionCache(errorKey))
+                : Optional.empty();
+    }
+
+    public boolean isStale(String key) {
+        Resolution resolution = index.get(key);
+        return gracePeriod > 0 && resolution != null
+                && resolution.expirationTime <= System.currentTimeMillis();
+    }
+
+    public void revalidate(String key, Supplier<Optional<String>> resolver,
+            int ttl) {
+        if (!revalidatingKeys.add(key)) {
+            return;
+        }
+        log.debug("Resolution {} is stale ... refreshing it in the background",
+                key);
+        revalidationExecutor.execute(() -> {
+            try {
+                Optional<String> value = resolver.get();
+                if (value.isPresent()) {
+                    putValueInResolutionCache(key, value.get(), ttl);
+                }
+            } catch (Exception e) {
+                log.warn("Exception refreshing resolution {} ({})", key,
+                        e.getMessage());
+            } finally {
+                revalidatingKeys.remove(key);
+            }
+        });
+    }
+
+    private String formatDate(long time) {
+        synchronized (dateFormat) {
+            return dateFormat.format(new Date(time));
+        }
     }
 
     private String getExpirationKey(String key) {
@@ -173,22 +298,37 @@ public class ResolutionCache {
     }
 
     public boolean checkKeyInResolutionCache(String key, boolean showLog) {
-        String valueFromResolutionCache = getValueFromResolutionCache(key);
-        boolean valueInResolutionCache = valueFromResolutionCache != null
-                && !valueFromResolutionCache.isEmpty();
+        Resolution resolution = getResolution(key);
+        boolean valueInResolutionCache = resolution != null
+                && !resolution.value.isEmpty();
         if (valueInResolutionCache) {
-            Date expirationDate = getExpirationDateFromResolutionCache(key);
-            valueInResolutionCache &= checkValidity(key,
-                    valueFromResolutionCache, expirationDate);
-            if (valueInResolutionCache) {
-                String strDate = formatDate(expirationDate);
-                if (showLog) {
-                    log.debug("Resolution {}={} in cache (valid until {})", key,
-                            valueFromResolutionCache, strDate);
-                }
+            valueInResolutionCache &= checkValidity(key, resolution);
+            if (valueInResolutionCache && showLog && log.isDebugEnabled()) {
+                log.debug("Resolution {}={} in cache (valid until {})", key,
+                        resolution.value,
+                        formatDate(resolution.expirationTime));
             }
         }
         return valueInResolutionCache;
     }
 
+    static class Resolution {
+        final String value;
+        final long expirationTime;
+
+        Resolution(String value, long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+    static class SortedProperties extends Properties {
+        private static final long serialVersionUID = 3734950329657085291L;
+
+        @Override
+        public synchronized Enumeration<Object> keys() {
+            return Collections.enumeration(new TreeSet<Object>(super.keySet()));
+        }
+    }
+
 }
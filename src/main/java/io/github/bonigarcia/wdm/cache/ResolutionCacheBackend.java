@@ -0,0 +1,58 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Storage of the resolution cache. The entries are properties (resolution keys
+ * and their expiration dates, using the suffix -ttl), and the changes are
+ * key-value pairs in which an empty value means a removed key. Custom backends
+ * are selected with the key wdm.resolutionCacheBackend (fully qualified class
+ * name with a public constructor accepting a Config object).
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public interface ResolutionCacheBackend {
+
+    /**
+     * Read the whole resolution cache.
+     */
+    Properties load() throws IOException;
+
+    /**
+     * Read the resolution cache again, only if it has been changed by others
+     * (e.g., other processes) since the last load.
+     */
+    Optional<Properties> reload();
+
+    /**
+     * Persist some changes (already applied to the local properties). If the
+     * stored content differs from the local properties (e.g., since it has
+     * been merged with the changes of others), it is returned.
+     */
+    Optional<Properties> store(Properties properties, String... keyValuePairs);
+
+    /**
+     * Remove all the entries of the resolution cache.
+     */
+    void clear();
+
+}
@@ -0,0 +1,178 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.cache;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.apache.hc.client5.http.classic.methods.HttpDelete;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache.SortedProperties;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.config.WebDriverManagerException;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.online.HttpStatusException;
+
+/**
+ * Resolution cache backend hosted by a WebDriverManager server (endpoint
+ * /cache), shared by all its clients (e.g., the agents of a build farm). The
+ * content is identified by an ETag, so it is only downloaded again when it has
+ * been changed. When the server is unreachable, it is not requested again for
+ * some time.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class ServerResolutionCacheBackend implements ResolutionCacheBackend {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    public static final String CACHE_PATH = "/cache";
+
+    static final long UNREACHABLE_MILLIS = 60_000;
+
+    Config config;
+    String cacheUrl;
+    String etag;
+    long unreachableUntil;
+
+    public ServerResolutionCacheBackend(Config config) {
+        this.config = config;
+        String serverUrl = config.getResolutionCacheServerUrl();
+        if (serverUrl.isEmpty()) {
+            throw new WebDriverManagerException(
+                    "The URL of the resolution cache server (wdm.resolutionCacheServerUrl) is required");
+        }
+        cacheUrl = (serverUrl.endsWith("/")
+                ? serverUrl.substring(0, serverUrl.length() - 1)
+                : serverUrl) + CACHE_PATH;
+    }
+
+    @Override
+    public Properties load() {
+        return exchange(new HttpGet(cacheUrl)).orElseGet(SortedProperties::new);
+    }
+
+    @Override
+    public synchronized Optional<Properties> reload() {
+        // The entries stored by other clients are only known by the server
+        HttpGet get = new HttpGet(cacheUrl);
+        if (etag != null) {
+            get.setHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        return exchange(get);
+    }
+
+    @Override
+    public Optional<Properties> store(Properties properties,
+            String... keyValuePairs) {
+        Properties changes = new SortedProperties();
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            changes.put(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        HttpPost post = new HttpPost(cacheUrl);
+        post.setEntity(new ByteArrayEntity(toBytes(changes),
+                ContentType.TEXT_PLAIN.withCharset(ISO_8859_1)));
+        return exchange(post);
+    }
+
+    @Override
+    public void clear() {
+        exchange(new HttpDelete(cacheUrl));
+    }
+
+    private synchronized Optional<Properties> exchange(
+            HttpUriRequestBase request) {
+        if (System.currentTimeMillis() < unreachableUntil) {
+            log.trace("Resolution cache server {} unreachable ... skipping {}",
+                    cacheUrl, request.getMethod());
+            return empty();
+        }
+        // The underlying HTTP client is shared in the JVM, and therefore it
+        // is acquired (and released) in each exchange
+        try (HttpClient httpClient = new HttpClient(config);
+                ClassicHttpResponse response = httpClient.execute(request)) {
+            if (response.getCode() == HttpStatus.SC_NOT_MODIFIED) {
+                return empty();
+            }
+            Header etagHeader = response.getFirstHeader(HttpHeaders.ETAG);
+            etag = etagHeader != null ? etagHeader.getValue() : null;
+            Properties props = new SortedProperties();
+            try (InputStream content = response.getEntity().getContent()) {
+                props.load(content);
+            }
+            return Optional.of(props);
+        } catch (HttpStatusException e) {
+            log.warn("Exception exchanging resolution cache with {} ({})",
+                    cacheUrl, e.getMessage());
+            return empty();
+        } catch (Exception e) {
+            log.warn(
+                    "Exception exchanging resolution cache with {} ({}) ... skipping it for {} seconds",
+                    cacheUrl, e.getMessage(),
+                    MILLISECONDS.toSeconds(UNREACHABLE_MILLIS));
+            unreachableUntil = System.currentTimeMillis()
+                    + UNREACHABLE_MILLIS;
+            return empty();
+        }
+    }
+
+    public static String getEtag(Properties properties) {
+        // The ETag depends only on the entries (i.e., not on the date of the
+        // serialized properties)
+        MessageDigest digest = BlobStore.newSha256Digest();
+        for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+            digest.update((key + "=" + properties.getProperty(key) + "\n")
+                    .getBytes(UTF_8));
+        }
+        return "\"" + BlobStore.toHex(digest.digest()) + "\"";
+    }
+
+    public static byte[] toBytes(Properties properties) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            properties.store(out,
+                    FileResolutionCacheBackend.RESOLUTION_CACHE_INFO);
+        } catch (IOException e) {
+            throw new WebDriverManagerException(e);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -65,6 +65,12 @@ public class Config {
             String.class);
     ConfigKey<String> resolutionCachePath = new ConfigKey<>(
             "wdm.resolutionCachePath", String.class);
+    ConfigKey<Boolean> cacheBlobStore = new ConfigKey<>("wdm.cacheBlobStore",
+            Boolean.class);
+    ConfigKey<Integer> cacheMaxSize = new ConfigKey<>("wdm.cacheMaxSize",
+            Integer.class);
+    ConfigKey<Integer> cacheMaxDrivers = new ConfigKey<>(
+            "wdm.cacheMaxDrivers", Integer.class);
     ConfigKey<Boolean> forceDownload = new ConfigKey<>("wdm.forceDownload",
             Boolean.class);
     ConfigKey<Boolean> useMirror = new ConfigKey<>("wdm.useMirror",
@@ -88,6 +94,22 @@ public class Config {
     ConfigKey<Boolean> avoidExternalConnections = new ConfigKey<>(
             "wdm.avoidExternalConnections", Boolean.class);
     ConfigKey<Integer> timeout = new ConfigKey<>("wdm.timeout", Integer.class);
+    ConfigKey<Integer> downloadChunks = new ConfigKey<>("wdm.downloadChunks",
+            Integer.class);
+    ConfigKey<Boolean> resumableDownloads = new ConfigKey<>(
+            "wdm.resumableDownloads", Boolean.class);
+    ConfigKey<Integer> installLockTimeout = new ConfigKey<>(
+            "wdm.installLockTimeout", Integer.class);
+    ConfigKey<Boolean> driverPrefetch = new ConfigKey<>("wdm.driverPrefetch",
+            Boolean.class);
+    ConfigKey<Boolean> metadataCache = new ConfigKey<>("wdm.metadataCache",
+            Boolean.class);
+    ConfigKey<Boolean> useAdaptiveMirror = new ConfigKey<>(
+            "wdm.useAdaptiveMirror", Boolean.class);
+    ConfigKey<Integer> circuitBreakerThreshold = new ConfigKey<>(
+            "wdm.circuitBreakerThreshold", Integer.class);
+    ConfigKey<Integer> circuitBreakerTimeout = new ConfigKey<>(
+            "wdm.circuitBreakerTimeout", Integer.class);
     ConfigKey<Boolean> commandsPropertiesOnlineFirst = new ConfigKey<>(
             "wdm.commandsPropertiesOnlineFirst", Boolean.class);
     ConfigKey<URL> commandsPropertiesUrl = new ConfigKey<>(
@@ -203,8 +225,20 @@ public class Config {
     ConfigKey<Integer> ttl = new ConfigKey<>("wdm.ttl", Integer.class);
     ConfigKey<Integer> ttlForBrowsers = new ConfigKey<>("wdm.ttlForBrowsers",
             Integer.class);
+    ConfigKey<Integer> resolutionCacheGracePeriod = new ConfigKey<>(
+            "wdm.resolutionCacheGracePeriod", Integer.class);
+    ConfigKey<Integer> ttlForErrors = new ConfigKey<>("wdm.ttlForErrors",
+            Integer.class);
     ConfigKey<String> resolutionCache = new ConfigKey<>("wdm.resolutionCache",
             String.class);
+    ConfigKey<Boolean> resolutionCacheJournal = new ConfigKey<>(
+            "wdm.resolutionCacheJournal", Boolean.class);
+    ConfigKey<Boolean> resolutionCacheLock = new ConfigKey<>(
+            "wdm.resolutionCacheLock", Boolean.class);
+    ConfigKey<String> resolutionCacheBackend = new ConfigKey<>(
+            "wdm.resolutionCacheBackend", String.class);
+    ConfigKey<String> resolutionCacheServerUrl = new ConfigKey<>(
+            "wdm.resolutionCacheServerUrl", String.class);
     ConfigKey<String> browserVersionDetectionCommand = new ConfigKey<>(
             "wdm.browserVersionDetectionCommand", String.class);
 
@@ -373,6 +407,21 @@ public class Config {
         }
     }
 
+    public Config copy() {
+        Config copy = new Config();
+        for (Field field : this.getClass().getDeclaredFields()) {
+            if (field.getType() == ConfigKey.class) {
+                try {
+                    Object value = ((ConfigKey<?>) field.get(this)).getValue();
+                    ((ConfigKey<?>) field.get(copy)).setValue(value);
+                } catch (Exception e) {
+                    log.warn("Exception copying {}", field);
+                }
+            }
+        }
+        return copy;
+    }
+
     private String defaultOsName() {
         String osName = System.getProperty("os.name").toLowerCase(ROOT);
         if (IS_OS_WINDOWS) {
@@ -453,6 +502,33 @@ public class Config {
         return this;
     }
 
+    public boolean isCacheBlobStore() {
+        return resolve(cacheBlobStore);
+    }
+
+    public Config setCacheBlobStore(boolean value) {
+        this.cacheBlobStore.setValue(value);
+        return this;
+    }
+
+    public int getCacheMaxSize() {
+        return resolve(cacheMaxSize);
+    }
+
+    public Config setCacheMaxSize(int value) {
+        this.cacheMaxSize.setValue(value);
+        return this;
+    }
+
+    public int getCacheMaxDrivers() {
+        return resolve(cacheMaxDrivers);
+    }
+
+    public Config setCacheMaxDrivers(int value) {
+        this.cacheMaxDrivers.setValue(value);
+        return this;
+    }
+
     public File getResolutionCachePath() {
         String resCachePath = resolvePath(resolve(resolutionCachePath));
         if (isNullOrEmpty(resCachePath)) {
@@ -574,6 +650,78 @@ public class Config {
         return this;
     }
 
+    public int getDownloadChunks() {
+        return resolve(downloadChunks);
+    }
+
+    public Config setDownloadChunks(int value) {
+        this.downloadChunks.setValue(value);
+        return this;
+    }
+
+    public boolean isResumableDownloads() {
+        return resolve(resumableDownloads);
+    }
+
+    public Config setResumableDownloads(boolean value) {
+        this.resumableDownloads.setValue(value);
+        return this;
+    }
+
+    public int getInstallLockTimeout() {
+        return resolve(installLockTimeout);
+    }
+
+    public Config setInstallLockTimeout(int value) {
+        this.installLockTimeout.setValue(value);
+        return this;
+    }
+
+    public boolean isDriverPrefetch() {
+        return resolve(driverPrefetch);
+    }
+
+    public Config setDriverPrefetch(boolean value) {
+        this.driverPrefetch.setValue(value);
+        return this;
+    }
+
+    public boolean isMetadataCache() {
+        return resolve(metadataCache);
+    }
+
+    public Config setMetadataCache(boolean value) {
+        this.metadataCache.setValue(value);
+        return this;
+    }
+
+    public boolean isUseAdaptiveMirror() {
+        return resolve(useAdaptiveMirror);
+    }
+
+    public Config setUseAdaptiveMirror(boolean value) {
+        this.useAdaptiveMirror.setValue(value);
+        return this;
+    }
+
+    public int getCircuitBreakerThreshold() {
+        return resolve(circuitBreakerThreshold);
+    }
+
+    public Config setCircuitBreakerThreshold(int value) {
+        this.circuitBreakerThreshold.setValue(value);
+        return this;
+    }
+
+    public int getCircuitBreakerTimeout() {
+        return resolve(circuitBreakerTimeout);
+    }
+
+    public Config setCircuitBreakerTimeout(int value) {
+        this.circuitBreakerTimeout.setValue(value);
+        return this;
+    }
+
     public boolean isCommandsPropertiesOnlineFirst() {
         return resolve(commandsPropertiesOnlineFirst);
     }
@@ -716,6 +864,24 @@ public class Config {
         return this;
     }
 
+    public int getResolutionCacheGracePeriod() {
+        return resolve(resolutionCacheGracePeriod);
+    }
+
+    public Config setResolutionCacheGracePeriod(int value) {
+        this.resolutionCacheGracePeriod.setValue(value);
+        return this;
+    }
+
+    public int getTtlForErrors() {
+        return resolve(ttlForErrors);
+    }
+
+    public Config setTtlForErrors(int value) {
+        this.ttlForErrors.setValue(value);
+        return this;
+    }
+
     public String getResolutionCache() {
         return resolve(resolutionCache);
     }
@@ -725,6 +891,42 @@ public class Config {
         return this;
     }
 
+    public boolean isResolutionCacheJournal() {
+        return resolve(resolutionCacheJournal);
+    }
+
+    public Config setResolutionCacheJournal(boolean value) {
+        this.resolutionCacheJournal.setValue(value);
+        return this;
+    }
+
+    public boolean isResolutionCacheLock() {
+        return resolve(resolutionCacheLock);
+    }
+
+    public Config setResolutionCacheLock(boolean value) {
+        this.resolutionCacheLock.setValue(value);
+        return this;
+    }
+
+    public String getResolutionCacheBackend() {
+        return resolve(resolutionCacheBackend);
+    }
+
+    public Config setResolutionCacheBackend(String value) {
+        this.resolutionCacheBackend.setValue(value);
+        return this;
+    }
+
+    public String getResolutionCacheServerUrl() {
+        return resolve(resolutionCacheServerUrl);
+    }
+
+    public Config setResolutionCacheServerUrl(String value) {
+        this.resolutionCacheServerUrl.setValue(value);
+        return this;
+    }
+
     public String getChromeDriverVersion() {
         return resolve(chromeDriverVersion);
     }
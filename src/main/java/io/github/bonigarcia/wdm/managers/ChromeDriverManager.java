@@ -20,6 +20,8 @@ import static io.github.bonigarcia.wdm.config.Architecture.ARM64;
 import static io.github.bonigarcia.wdm.config.Architecture.X32;
 import static io.github.bonigarcia.wdm.config.Config.isNullOrEmpty;
 import static io.github.bonigarcia.wdm.config.DriverManagerType.CHROME;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Locale.ROOT;
 import static java.util.Optional.empty;
 
@@ -29,8 +31,10 @@ import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.xml.namespace.NamespaceContext;
 
@@ -43,6 +47,7 @@ import io.github.bonigarcia.wdm.config.Architecture;
 import io.github.bonigarcia.wdm.config.Config;
 import io.github.bonigarcia.wdm.config.DriverManagerType;
 import io.github.bonigarcia.wdm.config.OperatingSystem;
+import io.github.bonigarcia.wdm.online.HttpClient;
 import io.github.bonigarcia.wdm.online.LastGoodVersions;
 import io.github.bonigarcia.wdm.online.Parser;
 import io.github.bonigarcia.wdm.versions.VersionDetector;
@@ -108,6 +113,21 @@ public class ChromeDriverManager extends WebDriverManager {
         return Optional.of(config().getChromeDriverMirrorUrl());
     }
 
+    @Override
+    protected URL getPrimaryUrl() {
+        // The drivers are downloaded from the CfT storage (i.e., the base of
+        // the download URL pattern used in buildUrl())
+        String downloadUrlPattern = config().getChromeDownloadUrlPattern();
+        int i = downloadUrlPattern.indexOf("%s");
+        String storageUrl = i < 0 ? downloadUrlPattern
+                : downloadUrlPattern.substring(0, i);
+        try {
+            return new URL(storageUrl);
+        } catch (MalformedURLException e) {
+            throw new WebDriverException("Incorrect CfT URL " + storageUrl);
+        }
+    }
+
     @Override
     protected Optional<String> getExportParameter() {
         return Optional.of(config().getChromeDriverExport());
@@ -147,6 +167,33 @@ public class ChromeDriverManager extends WebDriverManager {
         }
     }
 
+    @Override
+    protected List<String> getUpcomingDriverVersions(HttpClient httpClient)
+            throws IOException {
+        if (isUseMirror()) {
+            return emptyList();
+        }
+        // The drivers for the stable and beta channels are the ones required
+        // after the next browser updates
+        LastGoodVersions versions = Parser.parseJson(httpClient,
+                config().getChromeLastGoodVersionsUrl(),
+                LastGoodVersions.class);
+        return Stream.of(versions.channels.stable, versions.channels.beta)
+                .filter(Objects::nonNull).map(channel -> channel.version)
+                .distinct().collect(Collectors.toList());
+    }
+
+    @Override
+    protected List<URL> getMetadataUrls() throws IOException {
+        if (isUseMirror()) {
+            return emptyList();
+        }
+        String cftUrl = config().isAvoidBrowserDetection()
+                ? config().getChromeLastGoodVersionsUrl()
+                : config().getChromeGoodVersionsUrl();
+        return singletonList(new URL(cftUrl));
+    }
+
     @Override
     protected Charset getVersionCharset() {
         return StandardCharsets.UTF_8;
@@ -159,7 +206,7 @@ public class ChromeDriverManager extends WebDriverManager {
 
     @Override
     protected Optional<URL> buildUrl(String driverVersion) {
-        return buildUrl(driverVersion, config());
+        return isUseMirror() ? empty() : buildUrl(driverVersion, config());
     }
 
     Optional<URL> buildUrl(String driverVersion, Config config) {
@@ -19,6 +19,7 @@ package io.github.bonigarcia.wdm.managers;
 import static io.github.bonigarcia.wdm.config.Architecture.ARM64;
 import static io.github.bonigarcia.wdm.config.DriverManagerType.EDGE;
 import static io.github.bonigarcia.wdm.config.OperatingSystem.MAC;
+import static java.util.Collections.emptyList;
 import static java.util.Locale.ROOT;
 import static java.util.Optional.empty;
 import static javax.xml.xpath.XPathConstants.NODESET;
@@ -27,21 +28,23 @@ import static org.apache.commons.io.FileUtils.listFiles;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPath;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.net.URIBuilder;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.edge.EdgeOptions;
@@ -55,6 +58,9 @@ import io.github.bonigarcia.wdm.config.Config;
 import io.github.bonigarcia.wdm.config.DriverManagerType;
 import io.github.bonigarcia.wdm.config.OperatingSystem;
 import io.github.bonigarcia.wdm.config.WebDriverManagerException;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.online.MetadataCache;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
 import io.github.bonigarcia.wdm.webdriver.OptionsWithArguments;
 
 /**
@@ -139,6 +145,13 @@ public class EdgeDriverManager extends WebDriverManager {
                 "//Blob/Name", empty());
     }
 
+    @Override
+    protected Predicate<String> getEntryFilter() {
+        // The dynamic libraries are required by the driver in Mac
+        return name -> name.contains(getDriverName())
+                || name.toLowerCase(ROOT).endsWith(".dylib");
+    }
+
     @Override
     protected List<File> postDownload(File archive) {
         Collection<File> listFiles = listFiles(new File(archive.getParent()),
@@ -173,6 +186,18 @@ public class EdgeDriverManager extends WebDriverManager {
         }
     }
 
+    @Override
+    protected List<String> getUpcomingDriverVersions(HttpClient httpClient) {
+        // The latest stable driver is the one required after the next
+        // browser update
+        Optional<String> latestStable = new VersionDetector(config(),
+                httpClient).getDriverVersionFromRepository(empty(),
+                        getDriverUrl(), getVersionCharset(), getDriverName(),
+                        LATEST_STABLE, LATEST_RELEASE, getOsLabel());
+        return latestStable.map(String::trim).map(Collections::singletonList)
+                .orElse(emptyList());
+    }
+
     @Override
     protected Charset getVersionCharset() {
         return StandardCharsets.UTF_16;
@@ -202,7 +227,7 @@ public class EdgeDriverManager extends WebDriverManager {
 
     @Override
     protected Optional<URL> buildUrl(String driverVersion) {
-        return buildUrl(driverVersion, config());
+        return isUseMirror() ? empty() : buildUrl(driverVersion, config());
     }
 
     Optional<URL> buildUrl(String driverVersion, Config config) {
@@ -263,9 +288,9 @@ public class EdgeDriverManager extends WebDriverManager {
         logSeekRepo(driverUrl);
         List<URL> urls = new ArrayList<>();
         try {
-            try (ClassicHttpResponse response = getHttpClient()
-                    .execute(getHttpClient().createHttpGet(driverUrl))) {
-                Document xml = loadXML(response.getEntity().getContent());
+            try (InputStream content = new MetadataCache(getHttpClient())
+                    .open(getHttpClient().createHttpGet(driverUrl))) {
+                Document xml = loadXML(content);
                 XPath xPath = newInstance().newXPath();
                 if (namespaceContext.isPresent()) {
                     xPath.setNamespaceContext(namespaceContext.get());
@@ -17,6 +17,7 @@
 package io.github.bonigarcia.wdm.managers;
 
 import static io.github.bonigarcia.wdm.config.DriverManagerType.FIREFOX;
+import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 import static java.util.stream.Collectors.toList;
 
@@ -126,6 +127,11 @@ public class FirefoxDriverManager extends WebDriverManager {
         }
     }
 
+    @Override
+    protected List<URL> getMetadataUrls() {
+        return singletonList(config().getFirefoxDriverGoodVersionsUrl());
+    }
+
     @Override
     protected String getCurrentVersion(URL url) {
         int firstDash = url.getFile().indexOf(DASH);
@@ -125,7 +125,7 @@ public class OperaDriverManager extends WebDriverManager {
     @Override
     protected String getCurrentVersion(URL url) {
         String currentVersion;
-        if (config().isUseMirror()) {
+        if (isUseMirror()) {
             int i = url.getFile().lastIndexOf(SLASH);
             int j = url.getFile().substring(0, i).lastIndexOf(SLASH) + 1;
             currentVersion = url.getFile().substring(j, i);
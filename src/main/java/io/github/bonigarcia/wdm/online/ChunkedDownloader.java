@@ -0,0 +1,274 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Locale.ROOT;
+import static org.apache.hc.core5.http.HttpStatus.SC_OK;
+import static org.apache.hc.core5.http.HttpStatus.SC_PARTIAL_CONTENT;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Download of large files using several HTTP range requests in parallel.
+ * Each range is written in its position of a preallocated file. When the
+ * server publishes the checksum of the file (headers Digest or x-goog-hash),
+ * the reassembled file is verified.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class ChunkedDownloader {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final long MIN_CHUNK_SIZE = 1024L * 1024L;
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final String DIGEST = "Digest";
+    static final String X_GOOG_HASH = "x-goog-hash";
+
+    HttpClient httpClient;
+    Config config;
+
+    public ChunkedDownloader(HttpClient httpClient, Config config) {
+        this.httpClient = httpClient;
+        this.config = config;
+    }
+
+    /**
+     * Downloads the given URL in chunks. Returns false when the server does
+     * not support ranges (or the file is too small to be split), and so it
+     * should be downloaded using a single stream.
+     */
+    public boolean download(URL url, File target) throws IOException {
+        long length;
+        String validator;
+        Optional<Checksum> checksum;
+        try (ClassicHttpResponse response = httpClient
+                .execute(httpClient.createHttpHead(url))) {
+            Header acceptRanges = response.getFirstHeader("Accept-Ranges");
+            Header contentLength = response.getFirstHeader("Content-Length");
+            if (response.getCode() != SC_OK || acceptRanges == null
+                    || !acceptRanges.getValue().toLowerCase(ROOT)
+                            .contains("bytes")
+                    || contentLength == null) {
+                log.trace("Ranges not supported for {}", url);
+                return false;
+            }
+            length = Long.parseLong(contentLength.getValue().trim());
+
+            // Weak ETags cannot be used in If-Range
+            Header etag = response.getFirstHeader("ETag");
+            Header lastModified = response.getFirstHeader("Last-Modified");
+            validator = etag != null && !etag.getValue().startsWith("W/")
+                    ? etag.getValue()
+                    : lastModified != null ? lastModified.getValue() : null;
+            checksum = getChecksum(response);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Exception checking ranges for {} ({})", url,
+                    e.getMessage());
+            return false;
+        }
+
+        int chunks = (int) Math.min(config.getDownloadChunks(),
+                length / MIN_CHUNK_SIZE);
+        if (chunks < 2) {
+            return false;
+        }
+        log.debug("Downloading {} ({} bytes) in {} chunks", url, length,
+                chunks);
+        downloadChunks(url, target, length, chunks, validator);
+        if (checksum.isPresent()) {
+            checksum.get().verify(target);
+        }
+        return true;
+    }
+
+    static Optional<Checksum> getChecksum(ClassicHttpResponse response) {
+        // E.g., "Digest: sha-256=<base64>" (RFC 3230) or
+        // "x-goog-hash: crc32c=<base64>,md5=<base64>" (Google Cloud Storage)
+        Checksum md5 = null;
+        for (Header header : response.getHeaders()) {
+            if (!header.getName().equalsIgnoreCase(DIGEST)
+                    && !header.getName().equalsIgnoreCase(X_GOOG_HASH)) {
+                continue;
+            }
+            for (String value : header.getValue().split(",")) {
+                int i = value.indexOf('=');
+                if (i < 0) {
+                    continue;
+                }
+                String algorithm = value.substring(0, i).trim()
+                        .toLowerCase(ROOT);
+                String encoded = value.substring(i + 1).trim();
+                try {
+                    if (algorithm.equals("sha-256")) {
+                        return Optional.of(new Checksum("SHA-256", encoded));
+                    } else if (algorithm.equals("md5")) {
+                        md5 = new Checksum("MD5", encoded);
+                    }
+                } catch (IllegalArgumentException e) {
+                    log.trace("Invalid checksum {} ({})", value,
+                            e.getMessage());
+                }
+            }
+        }
+        return Optional.ofNullable(md5);
+    }
+
+    private void downloadChunks(URL url, File target, long length,
+            int chunks, String validator) throws IOException {
+        File parent = target.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(chunks,
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "wdm-download-chunk-"
+                                    + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try (FileChannel channel = FileChannel.open(target.toPath(), CREATE,
+                WRITE, TRUNCATE_EXISTING)) {
+            // Preallocation, so each chunk is written in its final position
+            channel.write(ByteBuffer.wrap(new byte[1]), length - 1);
+
+            long chunkSize = length / chunks;
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < chunks; i++) {
+                long first = i * chunkSize;
+                long last = i == chunks - 1 ? length - 1
+                        : first + chunkSize - 1;
+                futures.add(executor.submit(() -> downloadChunk(url, channel,
+                        first, last, validator)));
+            }
+
+            long downloaded = 0;
+            for (Future<Long> future : futures) {
+                downloaded += future.get();
+            }
+            if (downloaded != length || channel.size() != length) {
+                throw new IOException("Downloaded " + downloaded + " of "
+                        + length + " bytes from " + url);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(
+                    "Exception downloading chunk of " + url + " ("
+                            + e.getCause().getMessage() + ")",
+                    e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long downloadChunk(URL url, FileChannel channel, long first,
+            long last, String validator) throws IOException {
+        HttpGet httpGet = httpClient.createHttpRangeGet(url, first, last);
+        if (validator != null) {
+            // If the file changed since the HEAD request, the server answers
+            // with the whole content (i.e., 200 instead of 206)
+            httpGet.setHeader("If-Range", validator);
+        }
+        try (ClassicHttpResponse response = httpClient.execute(httpGet)) {
+            Header contentRange = response.getFirstHeader("Content-Range");
+            if (response.getCode() != SC_PARTIAL_CONTENT || contentRange == null
+                    || !contentRange.getValue()
+                            .startsWith("bytes " + first + "-" + last + "/")) {
+                throw new IOException("Unexpected response to range " + first
+                        + "-" + last + " (" + response.getCode() + ")");
+            }
+
+            long position = first;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = response.getEntity().getContent()) {
+                for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                    ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, n);
+                    while (bytes.hasRemaining()) {
+                        position += channel.write(bytes, position);
+                    }
+                }
+            }
+            log.trace("Downloaded range {}-{} of {}", first, last, url);
+            return position - first;
+        }
+    }
+
+    static class Checksum {
+        final String algorithm;
+        final byte[] expected;
+
+        Checksum(String algorithm, String encoded) {
+            this.algorithm = algorithm;
+            this.expected = Base64.getDecoder().decode(encoded);
+        }
+
+        void verify(File file) throws IOException {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException(e);
+            }
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = new FileInputStream(file)) {
+                for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                    digest.update(buffer, 0, n);
+                }
+            }
+            if (!MessageDigest.isEqual(expected, digest.digest())) {
+                throw new IOException("Checksum " + algorithm + " of " + file
+                        + " does not match");
+            }
+            log.trace("Checksum {} of {} verified", algorithm, file);
+        }
+    }
+
+}
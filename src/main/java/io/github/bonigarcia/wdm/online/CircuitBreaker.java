@@ -0,0 +1,253 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.cache.CacheLock;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Circuit breaker of the requests to each host. After some consecutive failed
+ * requests (connection errors or server errors), the breaker is open, and the
+ * requests to that host fail immediately. After some time, a single request is
+ * allowed (half-open), which closes the breaker when successful. The state is
+ * stored in the cache folder (circuit-breaker.properties), so it is shared by
+ * the processes using the same cache.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class CircuitBreaker {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final String CIRCUIT_BREAKER = "circuit-breaker.properties";
+    static final String CIRCUIT_BREAKER_INFO = "WebDriverManager Circuit Breaker";
+    static final String SEPARATOR = "|";
+
+    static final Map<File, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    Config config;
+    File stateFile;
+
+    public CircuitBreaker(Config config) {
+        this.config = config;
+        this.stateFile = new File(config.getCacheFolder(), CIRCUIT_BREAKER);
+    }
+
+    public boolean isEnabled() {
+        return config.getCircuitBreakerThreshold() > 0;
+    }
+
+    public boolean isOpen(URL url) {
+        return isEnabled()
+                && isOpen(HostStats.getHost(url.getHost(), url.getPort()));
+    }
+
+    boolean isOpen(String host) {
+        return isOpen(State.parse(load().getProperty(host)),
+                System.currentTimeMillis());
+    }
+
+    public void checkRequest(URI uri) {
+        if (!isEnabled()) {
+            return;
+        }
+        String host = HostStats.getHost(uri.getHost(), uri.getPort());
+        State state = State.parse(load().getProperty(host));
+        long now = System.currentTimeMillis();
+        if (!isOpen(state, now)
+                && state.failures >= config.getCircuitBreakerThreshold()) {
+            // Half-open: only this request is allowed until it finishes (or
+            // times out)
+            long probeUntil = now + config.getTimeout() * 1000L;
+            state = update(host, current -> isOpen(current, now) ? current
+                    : new State(current.failures, probeUntil));
+            if (state != null && state.openUntil == probeUntil) {
+                log.debug("Circuit breaker of {} is half-open ... probing",
+                        host);
+                return;
+            }
+        }
+        if (state != null && isOpen(state, now)) {
+            throw new CircuitBreakerOpenException(host,
+                    Instant.ofEpochMilli(state.openUntil));
+        }
+    }
+
+    private boolean isOpen(State state, long now) {
+        return state.failures >= config.getCircuitBreakerThreshold()
+                && now < state.openUntil;
+    }
+
+    public void recordSuccess(URI uri) {
+        String host = HostStats.getHost(uri.getHost(), uri.getPort());
+        if (isEnabled() && load().getProperty(host) != null) {
+            log.debug("Closing circuit breaker of {}", host);
+            update(host, state -> null);
+        }
+    }
+
+    public void recordFailure(URI uri) {
+        if (!isEnabled()) {
+            return;
+        }
+        String host = HostStats.getHost(uri.getHost(), uri.getPort());
+        int threshold = config.getCircuitBreakerThreshold();
+        update(host, state -> {
+            int failures = state.failures + 1;
+            if (failures < threshold) {
+                return new State(failures, 0);
+            }
+            log.warn(
+                    "Opening circuit breaker of {} for {} seconds ({} consecutive failed requests)",
+                    host, config.getCircuitBreakerTimeout(), failures);
+            return new State(failures, System.currentTimeMillis()
+                    + config.getCircuitBreakerTimeout() * 1000L);
+        });
+    }
+
+    public File getStateFile() {
+        return stateFile;
+    }
+
+    private Properties load() {
+        // The state is kept in memory, and it is read again only when the
+        // file is modified (e.g., by other processes)
+        long lastModified = stateFile.lastModified();
+        if (lastModified == 0) {
+            return new Properties();
+        }
+        long length = stateFile.length();
+        Snapshot snapshot = snapshots.get(stateFile);
+        if (snapshot != null && snapshot.lastModified == lastModified
+                && snapshot.length == length) {
+            return snapshot.states;
+        }
+        Properties states = read();
+        snapshots.put(stateFile, new Snapshot(lastModified, length, states));
+        return states;
+    }
+
+    private Properties read() {
+        Properties states = new Properties();
+        if (stateFile.exists()) {
+            try (InputStream fis = new FileInputStream(stateFile)) {
+                states.load(fis);
+            } catch (IOException e) {
+                log.warn("Exception reading circuit breaker {} ({})",
+                        stateFile, e.getMessage());
+            }
+        }
+        return states;
+    }
+
+    private State update(String host, UnaryOperator<State> transition) {
+        File cacheFolder = stateFile.getParentFile();
+        if (!cacheFolder.exists() && !cacheFolder.mkdirs()) {
+            return null;
+        }
+        try (CacheLock lock = CacheLock.lock(stateFile)) {
+            // The state written by other processes is read under the lock
+            Properties states = read();
+            State state = transition
+                    .apply(State.parse(states.getProperty(host)));
+            if (state == null) {
+                states.remove(host);
+            } else {
+                states.setProperty(host, state.toString());
+            }
+            File tmpFile = File.createTempFile(CIRCUIT_BREAKER, ".tmp",
+                    cacheFolder);
+            try (OutputStream fos = new FileOutputStream(tmpFile)) {
+                states.store(fos, CIRCUIT_BREAKER_INFO);
+            }
+            Files.move(tmpFile.toPath(), stateFile.toPath(), REPLACE_EXISTING,
+                    ATOMIC_MOVE);
+            snapshots.put(stateFile, new Snapshot(stateFile.lastModified(),
+                    stateFile.length(), states));
+            return state;
+        } catch (Exception e) {
+            log.warn("Exception writing circuit breaker {} ({})", stateFile,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    static class Snapshot {
+        final long lastModified;
+        final long length;
+        final Properties states;
+
+        Snapshot(long lastModified, long length, Properties states) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.states = states;
+        }
+    }
+
+    static class State {
+        final int failures;
+        final long openUntil;
+
+        State(int failures, long openUntil) {
+            this.failures = failures;
+            this.openUntil = openUntil;
+        }
+
+        static State parse(String value) {
+            if (value != null) {
+                String[] entry = value.split(Pattern.quote(SEPARATOR));
+                try {
+                    return new State(Integer.parseInt(entry[0]),
+                            Long.parseLong(entry[1]));
+                } catch (RuntimeException e) {
+                    log.trace("Wrong circuit breaker state {}", value);
+                }
+            }
+            return new State(0, 0);
+        }
+
+        @Override
+        public String toString() {
+            return failures + SEPARATOR + openUntil;
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import java.time.Instant;
+
+import io.github.bonigarcia.wdm.config.WebDriverManagerException;
+
+/**
+ * Exception for requests rejected since the circuit breaker of the host is
+ * open (i.e., the host has failed recently).
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class CircuitBreakerOpenException extends WebDriverManagerException {
+
+    private static final long serialVersionUID = 5216807398431573920L;
+
+    private final String host;
+    private final Instant openUntil;
+
+    public CircuitBreakerOpenException(String host, Instant openUntil) {
+        super("Circuit breaker open for host " + host + " (until " + openUntil
+                + ")");
+        this.host = host;
+        this.openUntil = openUntil;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public Instant getOpenUntil() {
+        return openUntil;
+    }
+
+}
@@ -17,43 +17,44 @@
 package io.github.bonigarcia.wdm.online;
 
 import static io.github.bonigarcia.wdm.config.Architecture.ARM64;
-import static io.github.bonigarcia.wdm.config.Config.EXE;
 import static io.github.bonigarcia.wdm.config.DriverManagerType.CHROME;
 import static io.github.bonigarcia.wdm.config.DriverManagerType.CHROMIUM;
 import static java.io.File.separator;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.nio.file.Files.createTempDirectory;
 import static java.nio.file.Files.delete;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Locale.ROOT;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
-import static org.apache.commons.io.FileUtils.copyInputStreamToFile;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 import static org.apache.commons.io.FileUtils.listFiles;
-import static org.apache.commons.io.FileUtils.moveFileToDirectory;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.function.Predicate;
 
-import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
-import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 
+import io.github.bonigarcia.wdm.cache.BlobStore;
+import io.github.bonigarcia.wdm.cache.CacheEvictor;
+import io.github.bonigarcia.wdm.cache.CacheLock;
+import io.github.bonigarcia.wdm.cache.DriverDigests;
 import io.github.bonigarcia.wdm.config.Config;
 import io.github.bonigarcia.wdm.config.DriverManagerType;
 import io.github.bonigarcia.wdm.config.OperatingSystem;
@@ -70,30 +71,61 @@ public class Downloader {
 
     static final Logger log = getLogger(lookup().lookupClass());
 
+    static final String CHUNKED = ".chunked";
+    static final String STAGING = ".staging";
+    static final String PUBLISH = "publish";
+
     HttpClient httpClient;
     Config config;
     Function<File, List<File>> postDownloadFunction;
+    Extractor extractor;
+    DriverDigests driverDigests;
 
     public Downloader(HttpClient httpClient, Config config,
             Function<File, List<File>> postDownloadFunction) {
+        this(httpClient, config, postDownloadFunction, entryName -> true);
+    }
+
+    public Downloader(HttpClient httpClient, Config config,
+            Function<File, List<File>> postDownloadFunction,
+            Predicate<String> entryFilter) {
         this.httpClient = httpClient;
         this.config = config;
         this.postDownloadFunction = postDownloadFunction;
+        this.extractor = new Extractor(config, entryFilter);
+        this.driverDigests = new DriverDigests();
 
     }
 
-    public synchronized String download(URL url, String driverVersion,
+    public String download(URL url, String driverVersion,
             String driverName, DriverManagerType driverManagerType)
             throws IOException {
         File targetFile = getTarget(driverVersion, driverName,
                 driverManagerType, url);
         Optional<File> driver = checkDriver(driverName, targetFile);
         if (!driver.isPresent()) {
-            driver = downloadAndExtract(url, targetFile);
+            // Only one process (and thread) downloads the driver, while the
+            // rest wait. Other drivers (or versions) are not blocked.
+            try (CacheLock lock = CacheLock.lock(getLockTarget(targetFile),
+                    SECONDS.toMillis(config.getInstallLockTimeout()))) {
+                driver = checkDriver(driverName, targetFile);
+                if (!driver.isPresent()) {
+                    driver = downloadAndExtract(url, targetFile);
+                }
+            }
         }
+        CacheEvictor.recordAccess(config, driver.get());
         return driver.get().toString();
     }
 
+    private File getLockTarget(File targetFile) {
+        // The lock is a sibling of the target folder, since this folder is
+        // replaced when the driver is published
+        return config.isAvoidOutputTree() || config.isAvoidTmpFolder()
+                ? targetFile
+                : targetFile.getParentFile();
+    }
+
     public File getTarget(String driverVersion, String driverName,
             DriverManagerType driverManagerType, URL url) {
         String zip = url.getFile().substring(url.getFile().lastIndexOf('/'));
@@ -129,183 +161,231 @@ public class Downloader {
         log.info("Downloading {}", url);
         File targetFolder = targetFile.getParentFile();
         File tempDir = config.isAvoidTmpFolder() ? targetFolder
-                : createTempDirectory("").toFile();
+                : createStagingFolder(targetFolder);
         File temporaryFile = new File(tempDir, targetFile.getName());
 
         log.trace("Target folder {} ... using temporal file {}", targetFolder,
                 temporaryFile);
-        copyInputStreamToFile(httpClient.execute(httpClient.createHttpGet(url))
-                .getEntity().getContent(), temporaryFile);
-
-        List<File> extractedFiles = extract(temporaryFile);
-        File resultingDriver = new File(targetFolder,
-                extractedFiles.iterator().next().getName());
-        boolean driverExists = resultingDriver.exists();
-
-        if ((!driverExists || config.isForceDownload())
-                && !config.isAvoidTmpFolder()) {
-            if (driverExists) {
-                log.debug("Overriding former driver {}", resultingDriver);
-                deleteFile(resultingDriver);
+        try {
+            Map<File, String> digests = download(url, targetFile,
+                    temporaryFile);
+            List<File> extractedFiles = postDownloadFunction
+                    .apply(temporaryFile);
+            File extractedDriver = extractedFiles.iterator().next();
+            File resultingDriver = new File(targetFolder,
+                    extractedDriver.getName());
+            Optional<String> digest = Optional.ofNullable(
+                    digests.get(extractedDriver.getAbsoluteFile()));
+            boolean driverExists = resultingDriver.exists()
+                    && driverDigests.verify(resultingDriver);
+
+            if ((!driverExists || config.isForceDownload())
+                    && !config.isAvoidTmpFolder()) {
+                if (driverExists) {
+                    log.debug("Overriding former driver {}", resultingDriver);
+                }
+                publish(extractedFiles, tempDir, targetFolder, digest);
+                if (digest.isPresent()) {
+                    driverDigests.record(resultingDriver, digest.get());
+                }
+            } else {
+                if (!config.isExecutable(resultingDriver)) {
+                    setFileExecutable(resultingDriver);
+                }
+                if (config.isCacheBlobStore()) {
+                    storeInBlobStore(resultingDriver, digest);
+                }
             }
-            for (File f : extractedFiles) {
-                moveFileToDirectory(f, targetFolder, true);
+            log.trace("Driver after extraction {}", resultingDriver);
+
+            return of(resultingDriver);
+        } finally {
+            if (!config.isAvoidTmpFolder()) {
+                deleteFolder(tempDir);
             }
         }
-        if (!config.isExecutable(resultingDriver)) {
-            setFileExecutable(resultingDriver);
-        }
-        if (!config.isAvoidTmpFolder()) {
-            deleteFolder(tempDir);
-        }
-        log.trace("Driver after extraction {}", resultingDriver);
-
-        return of(resultingDriver);
     }
 
-    private Optional<File> checkDriver(String driverName, File targetFile) {
-        File parentFolder = targetFile.getParentFile();
-        if (parentFolder.exists() && !config.isForceDownload()) {
-            // Check if driver exits in parent folder and it is valid
-
-            Collection<File> listFiles = listFiles(parentFolder, null, true);
-            for (File file : listFiles) {
-                if (file.getName().startsWith(driverName)
-                        && config.isExecutable(file)) {
-                    log.trace("Using {} previously downloaded", driverName);
-                    return of(file);
+    private Map<File, String> download(URL url, File targetFile,
+            File temporaryFile) throws IOException {
+        // The result are the SHA-256 digests of the files calculated while
+        // downloading (unknown for non-archived drivers already on disk)
+        boolean isArchive = Extractor.isArchive(temporaryFile);
+        Optional<File> chunkedFile = downloadInChunks(url, temporaryFile);
+        if (chunkedFile.isPresent()) {
+            if (!isArchive) {
+                moveFile(chunkedFile.get(), temporaryFile);
+                return singletonMap(temporaryFile.getAbsoluteFile(),
+                        BlobStore.sha256(temporaryFile));
+            }
+            try (InputStream in = new FileInputStream(chunkedFile.get())) {
+                return extract(in, temporaryFile);
+            } finally {
+                deleteFile(chunkedFile.get());
+            }
+        } else if (config.isResumableDownloads()) {
+            // The partial file is kept next to the target (i.e., not in the
+            // staging folder) to be resumed after failures
+            File partFile = new ResumableDownloader(httpClient, config)
+                    .download(url, targetFile);
+            try {
+                if (!isArchive) {
+                    moveFile(partFile, temporaryFile);
+                    return emptyMap();
+                }
+                try (InputStream in = new FileInputStream(partFile)) {
+                    return extract(in, temporaryFile);
                 }
+            } finally {
+                ResumableDownloader.delete(targetFile);
+            }
+        } else {
+            try (InputStream in = httpClient
+                    .execute(httpClient.createHttpGet(url)).getEntity()
+                    .getContent()) {
+                if (!isArchive) {
+                    return singletonMap(temporaryFile.getAbsoluteFile(),
+                            extractor.transfer(in, temporaryFile));
+                }
+                return extract(in, temporaryFile);
             }
-            log.trace("{} does not exist in cache", driverName);
         }
-        return empty();
     }
 
-    private List<File> extract(File compressedFile) throws IOException {
-        String fileName = compressedFile.getName().toLowerCase(ROOT);
+    private void moveFile(File from, File to) throws IOException {
+        // Non-archived drivers downloaded to disk (e.g., in chunks) are
+        // moved in the same file system instead of copied
+        log.trace("Moving {} to {}", from, to);
+        Files.move(from.toPath(), to.toPath(), REPLACE_EXISTING);
+    }
+
+    private File createStagingFolder(File targetFolder) throws IOException {
+        // The staging folder is in the cache (i.e., in the same file system
+        // than the target folder), so drivers are published by renaming it
+        File parent = config.isAvoidOutputTree() ? targetFolder
+                : targetFolder.getParentFile();
+        parent.mkdirs();
+        return createTempDirectory(parent.toPath(),
+                "." + targetFolder.getName() + STAGING).toFile();
+    }
 
-        boolean extractFile = !fileName.endsWith("exe")
-                && !fileName.endsWith("jar");
-        if (extractFile) {
-            log.info("Extracting driver from compressed file {}", fileName);
+    private void publish(List<File> extractedFiles, File stagingFolder,
+            File targetFolder, Optional<String> digest) throws IOException {
+        // Drivers are ready (i.e., executable) before being published
+        File publishFolder = new File(stagingFolder, PUBLISH);
+        publishFolder.mkdirs();
+        List<File> stagedFiles = new ArrayList<>();
+        for (File file : extractedFiles) {
+            File stagedFile = new File(publishFolder, file.getName());
+            Files.move(file.toPath(), stagedFile.toPath(), REPLACE_EXISTING);
+            stagedFiles.add(stagedFile);
         }
-        if (fileName.endsWith("tar.gz")) {
-            unTarGz(compressedFile);
-        } else if (fileName.endsWith("gz")) {
-            unGzip(compressedFile);
-        } else if (fileName.endsWith("zip")) {
-            unZip(compressedFile);
+        File stagedDriver = stagedFiles.get(0);
+        if (!config.isExecutable(stagedDriver)) {
+            setFileExecutable(stagedDriver);
         }
-
-        if (extractFile) {
-            deleteFile(compressedFile);
+        if (config.isCacheBlobStore()) {
+            storeInBlobStore(stagedDriver, digest);
         }
 
-        return postDownloadFunction.apply(compressedFile);
+        String[] targetContent = targetFolder.list();
+        if (!config.isAvoidOutputTree() && (targetContent == null
+                || targetContent.length == 0 && targetFolder.delete())) {
+            log.trace("Publishing {} as {}", publishFolder, targetFolder);
+            Files.move(publishFolder.toPath(), targetFolder.toPath(),
+                    ATOMIC_MOVE);
+        } else {
+            // Each file is published atomically, and the driver the last
+            // (i.e., when it is visible, the rest of files are too)
+            for (int i = stagedFiles.size() - 1; i >= 0; i--) {
+                File stagedFile = stagedFiles.get(i);
+                File targetFile = new File(targetFolder, stagedFile.getName());
+                log.trace("Publishing {} as {}", stagedFile, targetFile);
+                Files.move(stagedFile.toPath(), targetFile.toPath(),
+                        REPLACE_EXISTING, ATOMIC_MOVE);
+            }
+        }
     }
 
-    private void unZip(File compressedFile) throws IOException {
-        File file = null;
-        try (ZipFile zipFolder = new ZipFile(compressedFile)) {
-            Enumeration<?> enu = zipFolder.entries();
+    public static boolean isStaged(File file) {
+        for (File parent = file.getParentFile(); parent != null; parent = parent
+                .getParentFile()) {
+            if (parent.getName().startsWith(".")
+                    && parent.getName().contains(STAGING)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-            while (enu.hasMoreElements()) {
-                ZipEntry zipEntry = (ZipEntry) enu.nextElement();
+    private void storeInBlobStore(File driver, Optional<String> digest) {
+        try {
+            BlobStore blobStore = new BlobStore(config.getCacheFolder());
+            if (digest.isPresent()) {
+                blobStore.store(driver, digest.get());
+            } else {
+                blobStore.store(driver);
+            }
+        } catch (Exception e) {
+            log.warn("Exception storing {} in the cache blob store ({})",
+                    driver, e.getMessage());
+        }
+    }
 
-                String name = zipEntry.getName();
-                long size = zipEntry.getSize();
-                long compressedSize = zipEntry.getCompressedSize();
-                log.trace("Unzipping {} (size: {} KB, compressed size: {} KB)",
-                        name, size, compressedSize);
+    private Optional<File> checkDriver(String driverName, File targetFile) {
+        File parentFolder = targetFile.getParentFile();
+        if (parentFolder.exists() && !config.isForceDownload()) {
+            // Check if driver exits in parent folder and it is valid
 
-                file = new File(compressedFile.getParentFile(), name);
-                if (!file.exists() || config.isForceDownload()) {
-                    if (name.endsWith("/")) {
-                        file.mkdirs();
+            Collection<File> listFiles = listFiles(parentFolder, null, true);
+            for (File file : listFiles) {
+                if (file.getName().startsWith(driverName) && !isStaged(file)
+                        && !DriverDigests.isDigestFile(file)
+                        && config.isExecutable(file)) {
+                    if (!driverDigests.verify(file)) {
+                        log.debug("{} in cache is corrupted", file);
                         continue;
                     }
-
-                    File parent = file.getParentFile();
-                    if (parent != null) {
-                        parent.mkdirs();
-                    }
-
-                    try (InputStream is = zipFolder.getInputStream(zipEntry)) {
-                        copyInputStreamToFile(is, file);
-                    }
-                    setFileExecutable(file);
-                } else {
-                    log.debug("{} already exists", file);
+                    log.trace("Using {} previously downloaded", driverName);
+                    return of(file);
                 }
-
             }
+            log.trace("{} does not exist in cache", driverName);
         }
+        return empty();
     }
 
-    private void unGzip(File archive) throws IOException {
-        log.trace("UnGzip {}", archive);
-        String fileName = archive.getName();
-        int iDash = fileName.indexOf('-');
-        if (iDash != -1) {
-            fileName = fileName.substring(0, iDash);
-        }
-        int iDot = fileName.indexOf('.');
-        if (iDot != -1) {
-            fileName = fileName.substring(0, iDot);
+    private Optional<File> downloadInChunks(URL url, File temporaryFile) {
+        if (config.getDownloadChunks() < 2) {
+            return empty();
         }
-        File target = new File(archive.getParentFile(), fileName);
-
-        try (GZIPInputStream in = new GZIPInputStream(
-                new FileInputStream(archive))) {
-            try (FileOutputStream out = new FileOutputStream(target)) {
-                for (int c = in.read(); c != -1; c = in.read()) {
-                    out.write(c);
-                }
+        File chunkedFile = new File(temporaryFile.getPath() + CHUNKED);
+        try {
+            if (new ChunkedDownloader(httpClient, config).download(url,
+                    chunkedFile)) {
+                return of(chunkedFile);
+            }
+        } catch (IOException e) {
+            log.warn("Exception downloading {} in chunks ({}) ... "
+                    + "using a single connection", url, e.getMessage());
+            if (chunkedFile.exists()) {
+                deleteFile(chunkedFile);
             }
         }
+        return empty();
+    }
 
-        if (!target.getName().toLowerCase(ROOT).contains(EXE)
-                && target.exists()) {
-            setFileExecutable(target);
-        }
+    private Map<File, String> extract(InputStream in, File compressedFile)
+            throws IOException {
+        // The archive is extracted while it is downloaded, i.e., the
+        // compressed file is never written to disk
+        log.info("Extracting driver from compressed file {}",
+                compressedFile.getName());
+        return extractor.extract(in, compressedFile);
     }
 
     public void unTarGz(File tarGzFile) throws IOException {
-        String destDir = tarGzFile.getParent();
-        TarArchiveEntry entry = null;
-        TarArchiveEntry[] subEntries = null;
-        File subEntryFile = null;
-        try (FileInputStream fis = new FileInputStream(tarGzFile);
-                GZIPInputStream gis = new GZIPInputStream(fis);
-                TarArchiveInputStream taris = new TarArchiveInputStream(gis);) {
-            while ((entry = taris.getNextEntry()) != null) {
-                StringBuilder entryFileName = new StringBuilder();
-                entryFileName.append(destDir).append(File.separator)
-                        .append(entry.getName());
-                File entryFile = new File(entryFileName.toString());
-                if (entry.isDirectory()) {
-                    if (!entryFile.exists()) {
-                        entryFile.mkdir();
-                    }
-                    subEntries = entry.getDirectoryEntries();
-                    for (int i = 0; i < subEntries.length; i++) {
-                        try (OutputStream out = new FileOutputStream(
-                                subEntryFile)) {
-                            subEntryFile = new File(entryFileName.toString(),
-                                    subEntries[i].getName());
-                            IOUtils.copy(taris, out);
-                        }
-                    }
-                } else {
-                    try (OutputStream out = new FileOutputStream(entryFile)) {
-                        IOUtils.copy(taris, out);
-                        if (entryFile.getName().endsWith(".gz")) {
-                            unTarGz(entryFile.getAbsoluteFile());
-                        }
-                    }
-                }
-            }
-        }
+        extractor.unTarGz(tarGzFile);
     }
 
     protected void setFileExecutable(File file) {
@@ -0,0 +1,253 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import static io.github.bonigarcia.wdm.config.Config.EXE;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Locale.ROOT;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.cache.BlobStore;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Extraction of driver archives (zip, tar.gz, and gz) from streams. The
+ * entries are written to disk through file channels, using a large buffer
+ * reused by each thread.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class Extractor {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final int BUFFER_SIZE = 256 * 1024;
+
+    static final ThreadLocal<byte[]> buffers = ThreadLocal
+            .withInitial(() -> new byte[BUFFER_SIZE]);
+
+    Config config;
+    Predicate<String> entryFilter;
+
+    public Extractor(Config config) {
+        this(config, entryName -> true);
+    }
+
+    public Extractor(Config config, Predicate<String> entryFilter) {
+        this.config = config;
+        this.entryFilter = entryFilter;
+    }
+
+    public static boolean isArchive(File file) {
+        String fileName = file.getName().toLowerCase(ROOT);
+        return fileName.endsWith("gz") || fileName.endsWith("zip");
+    }
+
+    public Map<File, String> extract(InputStream in, File archive)
+            throws IOException {
+        // The result are the SHA-256 digests of the extracted files
+        String fileName = archive.getName().toLowerCase(ROOT);
+        InputStream bufferedIn = new BufferedInputStream(in, BUFFER_SIZE);
+        if (fileName.endsWith("tar.gz")) {
+            return unTarGz(bufferedIn, archive.getParentFile());
+        } else if (fileName.endsWith("gz")) {
+            return unGzip(bufferedIn, archive);
+        } else if (fileName.endsWith("zip")) {
+            return unZip(bufferedIn, archive.getParentFile());
+        }
+        Map<File, String> digests = new LinkedHashMap<>();
+        digests.put(archive.getAbsoluteFile(), transfer(bufferedIn, archive));
+        return digests;
+    }
+
+    public Map<File, String> unZip(InputStream in, File destDir)
+            throws IOException {
+        Map<File, String> digests = new LinkedHashMap<>();
+        try (ZipArchiveInputStream zis = new ZipArchiveInputStream(in,
+                UTF_8.name(), true, true)) {
+            ZipArchiveEntry zipEntry;
+            while ((zipEntry = zis.getNextEntry()) != null) {
+                String name = zipEntry.getName();
+                log.trace("Unzipping {} (size: {} KB, compressed size: {} KB)",
+                        name, zipEntry.getSize(),
+                        zipEntry.getCompressedSize());
+
+                File file = new File(destDir, name);
+                if (zipEntry.isDirectory() || !isSelected(name)) {
+                    continue;
+                }
+                if (!file.exists() || config.isForceDownload()) {
+                    digests.put(file.getAbsoluteFile(), copy(zis, file));
+                    setFileExecutable(file);
+                } else {
+                    log.debug("{} already exists", file);
+                }
+            }
+        }
+        return digests;
+    }
+
+    public Map<File, String> unGzip(InputStream in, File archive)
+            throws IOException {
+        log.trace("UnGzip {}", archive);
+        String fileName = archive.getName();
+        int iDash = fileName.indexOf('-');
+        if (iDash != -1) {
+            fileName = fileName.substring(0, iDash);
+        }
+        int iDot = fileName.indexOf('.');
+        if (iDot != -1) {
+            fileName = fileName.substring(0, iDot);
+        }
+        File target = new File(archive.getParentFile(), fileName);
+
+        Map<File, String> digests = new LinkedHashMap<>();
+        try (GZIPInputStream gis = new GZIPInputStream(in, BUFFER_SIZE)) {
+            digests.put(target.getAbsoluteFile(), copy(gis, target));
+        }
+
+        if (!target.getName().toLowerCase(ROOT).contains(EXE)
+                && target.exists()) {
+            setFileExecutable(target);
+        }
+        return digests;
+    }
+
+    public Map<File, String> unTarGz(File tarGzFile) throws IOException {
+        try (InputStream in = new BufferedInputStream(
+                new FileInputStream(tarGzFile), BUFFER_SIZE)) {
+            return unTarGz(in, tarGzFile.getParentFile());
+        }
+    }
+
+    public Map<File, String> unTarGz(InputStream in, File destDir)
+            throws IOException {
+        Map<File, String> digests = new LinkedHashMap<>();
+        try (GZIPInputStream gis = new GZIPInputStream(in, BUFFER_SIZE);
+                TarArchiveInputStream taris = new TarArchiveInputStream(gis)) {
+            TarArchiveEntry entry;
+            while ((entry = taris.getNextEntry()) != null) {
+                File entryFile = new File(destDir, entry.getName());
+                if (entry.isDirectory() || !isSelected(entry.getName())) {
+                    continue;
+                }
+                digests.put(entryFile.getAbsoluteFile(),
+                        copy(taris, entryFile));
+                if ((entry.getMode() & 0100) != 0) {
+                    setFileExecutable(entryFile);
+                }
+                if (entryFile.getName().endsWith(".gz")) {
+                    digests.putAll(unTarGz(entryFile.getAbsoluteFile()));
+                }
+            }
+        }
+        return digests;
+    }
+
+    private boolean isSelected(String entryName) {
+        // The entries not selected (e.g., licenses) are not inflated. Nested
+        // archives are always extracted, since they may contain the driver.
+        String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        boolean selected = entryFilter.test(fileName)
+                || fileName.toLowerCase(ROOT).endsWith(".gz");
+        if (!selected) {
+            log.trace("Skipping {}", entryName);
+        }
+        return selected;
+    }
+
+    public String copy(InputStream in, File file) throws IOException {
+        // The SHA-256 digest is calculated as the bytes are written
+        createParentFolder(file);
+        MessageDigest digest = BlobStore.newSha256Digest();
+        // Not closed, since the input can be the stream of an archive entry
+        InputStream dis = new DigestInputStream(in, digest);
+        byte[] buffer = buffers.get();
+        try (FileChannel channel = FileChannel.open(file.toPath(), CREATE,
+                WRITE, TRUNCATE_EXISTING)) {
+            for (int n = dis.read(buffer); n != -1; n = dis.read(buffer)) {
+                ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, n);
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            }
+        }
+        return BlobStore.toHex(digest.digest());
+    }
+
+    public String transfer(InputStream in, File file) throws IOException {
+        // Non-archived drivers (e.g., exe or jar) are transferred to the file
+        // channel without intermediate copies, calculating its SHA-256 digest
+        // on the fly
+        createParentFolder(file);
+        MessageDigest digest = BlobStore.newSha256Digest();
+        try (ReadableByteChannel source = Channels
+                .newChannel(new DigestInputStream(in, digest));
+                FileChannel channel = FileChannel.open(file.toPath(), CREATE,
+                        WRITE, TRUNCATE_EXISTING)) {
+            long position = 0;
+            for (long n = channel.transferFrom(source, position,
+                    Long.MAX_VALUE); n > 0; n = channel.transferFrom(source,
+                            position, Long.MAX_VALUE)) {
+                position += n;
+            }
+            log.trace("Transferred {} bytes to {}", position, file);
+        }
+        return BlobStore.toHex(digest.digest());
+    }
+
+    private void createParentFolder(File file) {
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+    }
+
+    protected void setFileExecutable(File file) {
+        if (!file.setExecutable(true)) {
+            log.warn("Error setting file {} as executable", file);
+        }
+    }
+
+}
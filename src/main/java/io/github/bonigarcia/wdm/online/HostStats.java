@@ -0,0 +1,112 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rolling statistics (latency and errors) of the last requests to each host
+ * (e.g., CfT storage, GitHub, or npmmirror), shared in the JVM.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class HostStats {
+
+    static final int WINDOW = 50;
+
+    static final int MIN_SAMPLES = 3;
+
+    static final double MAX_ERROR_RATE = 0.5;
+
+    static final Map<String, HostStats> hostStats = new ConcurrentHashMap<>();
+
+    final Deque<Sample> samples = new ArrayDeque<>();
+
+    public static HostStats of(URL url) {
+        return of(getHost(url.getHost(), url.getPort()));
+    }
+
+    public static HostStats of(URI uri) {
+        return of(getHost(uri.getHost(), uri.getPort()));
+    }
+
+    static HostStats of(String host) {
+        return hostStats.computeIfAbsent(host, key -> new HostStats());
+    }
+
+    static String getHost(String host, int port) {
+        return port == -1 ? host : host + ":" + port;
+    }
+
+    public synchronized void record(long millis, boolean error) {
+        samples.addLast(new Sample(millis, error));
+        if (samples.size() > WINDOW) {
+            samples.removeFirst();
+        }
+    }
+
+    public synchronized int getSamples() {
+        return samples.size();
+    }
+
+    public synchronized double getErrorRate() {
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        return (double) samples.stream().filter(sample -> sample.error)
+                .count() / samples.size();
+    }
+
+    public synchronized OptionalLong getPercentile(double percentile) {
+        // Only the latency of successful requests is taken into account
+        long[] latencies = samples.stream().filter(sample -> !sample.error)
+                .mapToLong(sample -> sample.millis).toArray();
+        if (latencies.length == 0) {
+            return OptionalLong.empty();
+        }
+        Arrays.sort(latencies);
+        int index = (int) Math.ceil(percentile * latencies.length) - 1;
+        return OptionalLong.of(latencies[Math.max(index, 0)]);
+    }
+
+    public boolean isKnown() {
+        return getSamples() >= MIN_SAMPLES;
+    }
+
+    public boolean isHealthy() {
+        return !isKnown() || getErrorRate() < MAX_ERROR_RATE;
+    }
+
+    static class Sample {
+        final long millis;
+        final boolean error;
+
+        Sample(long millis, boolean error) {
+            this.millis = millis;
+            this.error = error;
+        }
+    }
+
+}
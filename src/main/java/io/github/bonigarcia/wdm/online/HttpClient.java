@@ -24,6 +24,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Optional.empty;
 import static org.apache.hc.client5.http.cookie.StandardCookieSpec.STRICT;
 import static org.apache.hc.core5.http.HttpStatus.SC_BAD_REQUEST;
+import static org.apache.hc.core5.http.HttpStatus.SC_SERVER_ERROR;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.Closeable;
@@ -32,6 +33,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.Proxy;
+import java.net.URI;
 import java.net.URL;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
@@ -48,6 +50,7 @@ import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.Credentials;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.entity.DeflateInputStream;
@@ -81,13 +84,40 @@ public class HttpClient implements Closeable {
     final Logger log = getLogger(lookup().lookupClass());
 
     Config config;
-    CloseableHttpClient closeableHttpClient;
+    CircuitBreaker circuitBreaker;
+    SharedHttpClient sharedClient;
+    boolean closed;
 
     public HttpClient(Config config) {
+        this(config, new CircuitBreaker(config));
+    }
+
+    public HttpClient(Config config, CircuitBreaker circuitBreaker) {
         this.config = config;
+        this.circuitBreaker = circuitBreaker;
+        this.sharedClient = SharedHttpClient.acquire(getSharedClientKey(),
+                this::createSharedClient);
+    }
 
+    private String getSharedClientKey() {
+        // Clients with the same proxy and timeouts share the connection pool
+        try {
+            return String.join("|",
+                    String.valueOf(determineProxyUrl(config.getProxy())
+                            .orElse(null)),
+                    config.getProxyUser(), config.getProxyPass(),
+                    getenv("HTTPS_PROXY_USER"), getenv("HTTPS_PROXY_PASS"),
+                    String.valueOf(config.getTimeout()),
+                    String.valueOf(config.getDownloadChunks()));
+        } catch (MalformedURLException e) {
+            throw new WebDriverManagerException(e);
+        }
+    }
+
+    private SharedHttpClient createSharedClient() {
         HttpClientBuilder builder = HttpClientBuilder.create()
                 .setConnectionManagerShared(true);
+        PoolingHttpClientConnectionManager cm;
         try {
             setupProxyIfRequired(builder);
 
@@ -104,11 +134,16 @@ public class HttpClient implements Closeable {
 
             DefaultClientTlsStrategy dcts = new DefaultClientTlsStrategy(
                     sslContext, allHostsValid);
-            PoolingHttpClientConnectionManager cm = PoolingHttpClientConnectionManagerBuilder
-                    .create().setTlsSocketStrategy(dcts).build();
+            cm = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setTlsSocketStrategy(dcts).build();
             cm.setDefaultConnectionConfig(ConnectionConfig.custom()
                     .setConnectTimeout(config.getTimeout(), TimeUnit.SECONDS)
                     .build());
+            int downloadChunks = config.getDownloadChunks();
+            if (downloadChunks > cm.getDefaultMaxPerRoute()) {
+                cm.setDefaultMaxPerRoute(downloadChunks);
+                cm.setMaxTotal(Math.max(cm.getMaxTotal(), downloadChunks));
+            }
 
             // Add decompression handlers
             final LinkedHashMap<String, InputStreamFactory> contentDecoderMap = new LinkedHashMap<>();
@@ -127,7 +162,30 @@ public class HttpClient implements Closeable {
             throw new WebDriverManagerException(e);
         }
 
-        closeableHttpClient = builder.useSystemProperties().build();
+        return new SharedHttpClient(getSharedClientKey(),
+                builder.useSystemProperties().build(), cm);
+    }
+
+    private URI getUri(ClassicHttpRequest method) {
+        try {
+            return method.getUri();
+        } catch (Exception e) {
+            log.trace("Exception reading URI from method: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void recordStats(URI uri, long start, boolean error) {
+        if (uri == null || uri.getHost() == null) {
+            return;
+        }
+        // The time to response headers is used as latency of the host
+        HostStats.of(uri).record(System.currentTimeMillis() - start, error);
+        if (error) {
+            circuitBreaker.recordFailure(uri);
+        } else {
+            circuitBreaker.recordSuccess(uri);
+        }
     }
 
     public HttpGet createHttpGet(URL url) {
@@ -141,11 +199,45 @@ public class HttpClient implements Closeable {
         return httpGet;
     }
 
+    public HttpHead createHttpHead(URL url) {
+        HttpHead httpHead = new HttpHead(url.toString());
+        httpHead.addHeader("user-agent", "Apache-HttpClient/5.0");
+        httpHead.addHeader("accept-encoding", "identity");
+
+        httpHead.setConfig(
+                RequestConfig.custom().setCookieSpec(STRICT).build());
+        return httpHead;
+    }
+
+    public HttpGet createHttpRangeGet(URL url, long first, long last) {
+        HttpGet httpGet = createHttpGet(url);
+        // Ranges refer to the stored content (i.e., not encoded)
+        httpGet.setHeader("accept-encoding", "identity");
+        if (first > 0 || last >= 0) {
+            // A negative last position means the rest of the content
+            httpGet.setHeader("range",
+                    "bytes=" + first + "-" + (last >= 0 ? last : ""));
+        }
+        return httpGet;
+    }
+
     public ClassicHttpResponse execute(ClassicHttpRequest method)
             throws IOException {
-        ClassicHttpResponse response = closeableHttpClient.executeOpen(null,
-                method, HttpClientContext.create());
+        URI uri = getUri(method);
+        if (uri != null && uri.getHost() != null) {
+            circuitBreaker.checkRequest(uri);
+        }
+        long start = System.currentTimeMillis();
+        ClassicHttpResponse response;
+        try {
+            response = getCloseableHttpClient().executeOpen(null, method,
+                    HttpClientContext.create());
+        } catch (IOException e) {
+            recordStats(uri, start, true);
+            throw e;
+        }
         int responseCode = response.getCode();
+        recordStats(uri, start, responseCode >= SC_SERVER_ERROR);
         if (responseCode >= SC_BAD_REQUEST) {
             String errorMessage;
             String methodUri = "";
@@ -158,7 +250,8 @@ public class HttpClient implements Closeable {
             errorMessage = "Error HTTP " + responseCode + " executing "
                     + methodUri;
             log.error(errorMessage);
-            throw new WebDriverManagerException(errorMessage);
+            response.close();
+            throw new HttpStatusException(errorMessage, responseCode);
         }
         return response;
     }
@@ -275,9 +368,27 @@ public class HttpClient implements Closeable {
         return Optional.of(credentialsProvider);
     }
 
+    private synchronized CloseableHttpClient getCloseableHttpClient() {
+        if (closed) {
+            throw new IllegalStateException("HTTP client already closed");
+        }
+        return sharedClient.closeableHttpClient;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
     @Override
-    public void close() throws IOException {
-        closeableHttpClient.close();
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            sharedClient.release();
+        }
     }
 
 }
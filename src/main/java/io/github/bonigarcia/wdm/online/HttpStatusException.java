@@ -0,0 +1,42 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import io.github.bonigarcia.wdm.config.WebDriverManagerException;
+
+/**
+ * Exception for HTTP responses with error status code (i.e., 4xx or 5xx).
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class HttpStatusException extends WebDriverManagerException {
+
+    private static final long serialVersionUID = -3470928186349417236L;
+
+    private final int statusCode;
+
+    public HttpStatusException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+}
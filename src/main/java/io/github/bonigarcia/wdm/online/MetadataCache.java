@@ -0,0 +1,263 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Optional.empty;
+import static org.apache.hc.core5.http.HttpStatus.SC_NOT_MODIFIED;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.cache.BlobStore;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Cache of the metadata (e.g., JSON or XML documents with driver versions)
+ * read from online repositories. The responses are stored in the cache folder
+ * together with their validators (ETag and Last-Modified), and requested again
+ * using conditional GETs, so the stored body is reused when the server answers
+ * 304 (Not Modified). The metadata can be also prefetched in the background
+ * (e.g., while the browser version is detected).
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class MetadataCache {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final String METADATA = "metadata";
+    static final String BODY = ".body";
+    static final String INFO = ".properties";
+    static final String SOURCE = "url";
+    static final String ETAG = "etag";
+    static final String LAST_MODIFIED = "lastModified";
+    static final String LENGTH = "length";
+
+    static final long PREFETCH_TTL_MILLIS = 60_000;
+
+    static final Map<String, Prefetch> prefetched = new ConcurrentHashMap<>();
+
+    static final ExecutorService prefetchExecutor = Executors
+            .newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "wdm-metadata-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    HttpClient httpClient;
+    Config config;
+    File metadataFolder;
+
+    public MetadataCache(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        this.config = httpClient.config;
+        this.metadataFolder = new File(config.getCacheFolder(), METADATA);
+    }
+
+    public static CompletableFuture<byte[]> prefetch(HttpClient httpClient,
+            URL url) {
+        // The metadata is requested in the background, and the response is
+        // used by the next request of the same URL (if not expired)
+        long now = System.currentTimeMillis();
+        prefetched.values().removeIf(prefetch -> prefetch.isExpired(now));
+        return prefetched.computeIfAbsent(url.toString(), key -> {
+            log.trace("Prefetching metadata of {}", url);
+            return new Prefetch(now,
+                    CompletableFuture.supplyAsync(() -> {
+                        // The prefetch holds its own reference to the shared
+                        // client, since it can finish after the caller
+                        HttpGet httpGet = httpClient.createHttpGet(url);
+                        try (HttpClient prefetchClient = new HttpClient(
+                                httpClient.config, httpClient.circuitBreaker);
+                                InputStream in = new MetadataCache(
+                                        prefetchClient).request(httpGet,
+                                                url.toString())) {
+                            return IOUtils.toByteArray(in);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, prefetchExecutor));
+        }).future;
+    }
+
+    public InputStream open(HttpGet httpGet) throws IOException {
+        String url = httpGet.getRequestUri();
+        try {
+            url = httpGet.getUri().toString();
+        } catch (Exception e) {
+            log.trace("Exception reading URI from request: {}", e.getMessage());
+        }
+        Optional<byte[]> prefetchedBody = getPrefetched(url, httpGet);
+        if (prefetchedBody.isPresent()) {
+            return new ByteArrayInputStream(prefetchedBody.get());
+        }
+        return request(httpGet, url);
+    }
+
+    private Optional<byte[]> getPrefetched(String url, HttpGet httpGet) {
+        Prefetch prefetch = prefetched.remove(url);
+        if (prefetch == null || prefetch.isExpired(System.currentTimeMillis())
+                || httpGet.containsHeader("Authorization")) {
+            return empty();
+        }
+        try {
+            // The request may be still in progress
+            byte[] body = prefetch.future.join();
+            log.trace("Using prefetched metadata of {}", url);
+            return Optional.of(body);
+        } catch (CompletionException | CancellationException e) {
+            log.debug("Exception prefetching metadata of {} ({})", url,
+                    e.getMessage());
+            return empty();
+        }
+    }
+
+    private InputStream request(HttpGet httpGet, String url)
+            throws IOException {
+        if (!config.isMetadataCache()) {
+            return httpClient.execute(httpGet).getEntity().getContent();
+        }
+        String key = BlobStore.toHex(BlobStore.newSha256Digest()
+                .digest(url.getBytes(UTF_8)));
+        File bodyFile = new File(metadataFolder, key + BODY);
+        File infoFile = new File(metadataFolder, key + INFO);
+
+        Properties info = loadInfo(infoFile, bodyFile);
+        if (info.containsKey(ETAG)) {
+            httpGet.setHeader("If-None-Match", info.getProperty(ETAG));
+        }
+        if (info.containsKey(LAST_MODIFIED)) {
+            httpGet.setHeader("If-Modified-Since",
+                    info.getProperty(LAST_MODIFIED));
+        }
+
+        ClassicHttpResponse response = httpClient.execute(httpGet);
+        if (response.getCode() == SC_NOT_MODIFIED && !info.isEmpty()) {
+            response.close();
+            log.debug("Using cached metadata of {} (not modified)", url);
+            return new FileInputStream(bodyFile);
+        }
+
+        Header etag = response.getFirstHeader("ETag");
+        Header lastModified = response.getFirstHeader("Last-Modified");
+        if (etag == null && lastModified == null) {
+            // Responses without validators cannot be requested conditionally
+            return response.getEntity().getContent();
+        }
+        info = new Properties();
+        info.setProperty(SOURCE, url);
+        if (etag != null) {
+            info.setProperty(ETAG, etag.getValue());
+        }
+        if (lastModified != null) {
+            info.setProperty(LAST_MODIFIED, lastModified.getValue());
+        }
+        try (InputStream content = response.getEntity().getContent()) {
+            store(content, info, bodyFile, infoFile);
+        } finally {
+            response.close();
+        }
+        return new FileInputStream(bodyFile);
+    }
+
+    static class Prefetch {
+        final long startTime;
+        final CompletableFuture<byte[]> future;
+
+        Prefetch(long startTime, CompletableFuture<byte[]> future) {
+            this.startTime = startTime;
+            this.future = future;
+        }
+
+        boolean isExpired(long now) {
+            return now - startTime > PREFETCH_TTL_MILLIS;
+        }
+    }
+
+    private Properties loadInfo(File infoFile, File bodyFile) {
+        Properties info = new Properties();
+        if (infoFile.exists() && bodyFile.exists()) {
+            try (InputStream fis = new FileInputStream(infoFile)) {
+                info.load(fis);
+            } catch (IOException e) {
+                log.trace("Exception reading cached metadata {} ({})",
+                        infoFile, e.getMessage());
+            }
+            // The body may be replaced by other process in the meantime
+            if (!String.valueOf(bodyFile.length())
+                    .equals(info.getProperty(LENGTH))) {
+                info.clear();
+            }
+        }
+        return info;
+    }
+
+    private void store(InputStream content, Properties info, File bodyFile,
+            File infoFile) throws IOException {
+        metadataFolder.mkdirs();
+        File tmpBody = File.createTempFile(bodyFile.getName(), ".tmp",
+                metadataFolder);
+        File tmpInfo = File.createTempFile(infoFile.getName(), ".tmp",
+                metadataFolder);
+        try {
+            Files.copy(content, tmpBody.toPath(), REPLACE_EXISTING);
+            info.setProperty(LENGTH, String.valueOf(tmpBody.length()));
+            try (OutputStream fos = new FileOutputStream(tmpInfo)) {
+                info.store(fos, "WebDriverManager Metadata Cache");
+            }
+            Files.move(tmpBody.toPath(), bodyFile.toPath(), REPLACE_EXISTING,
+                    ATOMIC_MOVE);
+            Files.move(tmpInfo.toPath(), infoFile.toPath(), REPLACE_EXISTING,
+                    ATOMIC_MOVE);
+            log.trace("Stored metadata of {} in cache ({} bytes)",
+                    info.getProperty(SOURCE), bodyFile.length());
+        } finally {
+            Files.deleteIfExists(tmpBody.toPath());
+            Files.deleteIfExists(tmpInfo.toPath());
+        }
+    }
+
+}
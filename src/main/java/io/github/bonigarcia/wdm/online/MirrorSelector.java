@@ -0,0 +1,173 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.slf4j.Logger;
+
+/**
+ * Selection of the repository (primary or mirror) to be used, based on the
+ * rolling statistics of each host. The preferred repository is probed, and a
+ * hedged probe is sent to the alternative when the first response is slower
+ * than the 95th percentile of its latency. The selection is reused for some
+ * time in the JVM.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class MirrorSelector {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final long DEFAULT_HEDGE_DELAY_MILLIS = 500;
+
+    static final long SELECTION_TTL_MILLIS = 60_000;
+
+    static final Map<String, Selection> selections = new ConcurrentHashMap<>();
+
+    static final ExecutorService probeExecutor = Executors
+            .newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "wdm-mirror-probe");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private MirrorSelector() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static URL select(HttpClient httpClient, URL primaryUrl,
+            URL mirrorUrl) {
+        String key = primaryUrl + "|" + mirrorUrl;
+        long now = System.currentTimeMillis();
+        Selection selection = selections.get(key);
+        if (selection != null
+                && now - selection.timestamp < SELECTION_TTL_MILLIS) {
+            return selection.url;
+        }
+
+        URL first = primaryUrl;
+        URL second = mirrorUrl;
+        if (isFaster(HostStats.of(mirrorUrl), HostStats.of(primaryUrl))) {
+            first = mirrorUrl;
+            second = primaryUrl;
+        }
+        URL selectedUrl = probe(httpClient, first, second, primaryUrl);
+        log.debug("Using {} (primary: {}, mirror: {})", selectedUrl,
+                primaryUrl, mirrorUrl);
+        selections.put(key, new Selection(selectedUrl, now));
+        return selectedUrl;
+    }
+
+    static boolean isFaster(HostStats stats, HostStats otherStats) {
+        // Healthy hosts are preferred, and then the lower median latency.
+        // Without enough statistics, the order is kept.
+        if (stats.isHealthy() != otherStats.isHealthy()) {
+            return stats.isHealthy();
+        }
+        if (!stats.isKnown() || !otherStats.isKnown()) {
+            return false;
+        }
+        return stats.getPercentile(0.5).orElse(Long.MAX_VALUE) < otherStats
+                .getPercentile(0.5).orElse(Long.MAX_VALUE);
+    }
+
+    static URL probe(HttpClient httpClient, URL first, URL second,
+            URL defaultUrl) {
+        long hedgeDelay = HostStats.of(first).getPercentile(0.95)
+                .orElse(DEFAULT_HEDGE_DELAY_MILLIS);
+        CompletableFuture<Boolean> firstProbe = probe(httpClient, first);
+        try {
+            if (firstProbe.get(hedgeDelay, MILLISECONDS)) {
+                return first;
+            }
+        } catch (TimeoutException e) {
+            log.debug("No response from {} in {} ms ... hedging to {}", first,
+                    hedgeDelay, second);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return defaultUrl;
+        } catch (ExecutionException e) {
+            log.trace("Exception probing {} ({})", first, e.getMessage());
+        }
+
+        // The repository of the first successful probe is selected
+        CompletableFuture<Boolean> secondProbe = probe(httpClient, second);
+        CompletableFuture<URL> winner = new CompletableFuture<>();
+        firstProbe.thenAccept(ok -> {
+            if (ok) {
+                winner.complete(first);
+            }
+        });
+        secondProbe.thenAccept(ok -> {
+            if (ok) {
+                winner.complete(second);
+            }
+        });
+        CompletableFuture.allOf(firstProbe, secondProbe)
+                .thenRun(() -> winner.complete(defaultUrl));
+        try {
+            return winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.trace("Exception selecting repository ({})", e.getMessage());
+        }
+        return defaultUrl;
+    }
+
+    static CompletableFuture<Boolean> probe(HttpClient httpClient, URL url) {
+        // The latency of the probes is recorded by the HTTP client. Each
+        // probe holds its own reference to the shared client, since the
+        // slower probe can finish after the selection.
+        return CompletableFuture.supplyAsync(() -> {
+            try (HttpClient probeClient = new HttpClient(httpClient.config,
+                    httpClient.circuitBreaker);
+                    ClassicHttpResponse response = probeClient
+                            .execute(probeClient.createHttpHead(url))) {
+                return response.getCode() < 400;
+            } catch (Exception e) {
+                log.trace("Exception probing {} ({})", url, e.getMessage());
+                return false;
+            }
+        }, probeExecutor);
+    }
+
+    static class Selection {
+        final URL url;
+        final long timestamp;
+
+        Selection(URL url, long timestamp) {
+            this.url = url;
+            this.timestamp = timestamp;
+        }
+    }
+
+}
@@ -51,7 +51,7 @@ public class Parser {
     public static <T> T parseJson(HttpClient client, String url, Class<T> klass)
             throws IOException {
         HttpGet get = client.createHttpGet(new URL(url));
-        InputStream content = client.execute(get).getEntity().getContent();
+        InputStream content = new MetadataCache(client).open(get);
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(content))) {
             String lines = reader.lines().collect(Collectors.joining());
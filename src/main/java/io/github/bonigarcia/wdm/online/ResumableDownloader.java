@@ -0,0 +1,202 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.hc.core5.http.HttpStatus.SC_PARTIAL_CONTENT;
+import static org.apache.hc.core5.http.HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Download resumable after failures (e.g., timeouts or connection resets).
+ * The partial content is kept next to the target file (with the suffix
+ * .part), together with its validators (ETag or Last-Modified, and length),
+ * so further attempts continue it using a range request.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class ResumableDownloader {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    public static final String PART = ".part";
+    public static final String PART_INFO = PART + ".properties";
+    static final String URL = "url";
+    static final String VALIDATOR = "validator";
+    static final String LENGTH = "length";
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    HttpClient httpClient;
+    Config config;
+
+    public ResumableDownloader(HttpClient httpClient, Config config) {
+        this.httpClient = httpClient;
+        this.config = config;
+    }
+
+    public static boolean isPartialDownload(File file) {
+        String name = file.getName();
+        return name.endsWith(PART) || name.endsWith(PART_INFO);
+    }
+
+    /**
+     * Downloads (or resumes) the given URL, returning the complete file. The
+     * caller is responsible for deleting it (see delete()) once used.
+     */
+    public File download(URL url, File target) throws IOException {
+        File partFile = new File(target.getPath() + PART);
+        File infoFile = new File(target.getPath() + PART_INFO);
+        Properties info = loadInfo(infoFile);
+
+        long offset = 0;
+        String validator = info.getProperty(VALIDATOR);
+        if (partFile.exists() && validator != null
+                && url.toString().equals(info.getProperty(URL))) {
+            offset = partFile.length();
+        }
+
+        HttpGet httpGet = httpClient.createHttpRangeGet(url, offset, -1);
+        if (offset > 0) {
+            log.info("Resuming download of {} from byte {}", url, offset);
+            // The server answers with the whole content if the file changed
+            httpGet.setHeader("If-Range", validator);
+        }
+
+        try (ClassicHttpResponse response = executeResumable(httpGet)) {
+            boolean resumed = offset > 0
+                    && response.getCode() == SC_PARTIAL_CONTENT
+                    && isContentRangeFrom(response, offset);
+            if (!resumed) {
+                offset = 0;
+                storeInfo(infoFile, url, response);
+            }
+
+            File parent = partFile.getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = response.getEntity().getContent();
+                    OutputStream out = Files.newOutputStream(partFile.toPath(),
+                            CREATE, WRITE,
+                            resumed ? APPEND : TRUNCATE_EXISTING)) {
+                for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                    out.write(buffer, 0, n);
+                }
+            }
+        }
+
+        String length = loadInfo(infoFile).getProperty(LENGTH);
+        if (length != null && Long.parseLong(length) != partFile.length()) {
+            throw new IOException("Incomplete download of " + url + " ("
+                    + partFile.length() + " of " + length + " bytes)");
+        }
+        return partFile;
+    }
+
+    public static void delete(File target) throws IOException {
+        Files.deleteIfExists(new File(target.getPath() + PART).toPath());
+        Files.deleteIfExists(new File(target.getPath() + PART_INFO).toPath());
+    }
+
+    private ClassicHttpResponse executeResumable(HttpGet httpGet)
+            throws IOException {
+        try {
+            return httpClient.execute(httpGet);
+        } catch (HttpStatusException e) {
+            // HttpClient raises an exception for error codes, such as 416
+            // (i.e., partial content not valid)
+            if (e.getStatusCode() == SC_REQUESTED_RANGE_NOT_SATISFIABLE) {
+                log.debug("Partial download of {} not valid ... starting again",
+                        httpGet.getRequestUri());
+                httpGet.removeHeaders("range");
+                httpGet.removeHeaders("If-Range");
+                return httpClient.execute(httpGet);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isContentRangeFrom(ClassicHttpResponse response,
+            long offset) {
+        Header contentRange = response.getFirstHeader("Content-Range");
+        return contentRange != null
+                && contentRange.getValue().startsWith("bytes " + offset + "-");
+    }
+
+    private Properties loadInfo(File infoFile) throws IOException {
+        Properties info = new Properties();
+        if (infoFile.exists()) {
+            try (InputStream fis = new FileInputStream(infoFile)) {
+                info.load(fis);
+            }
+        }
+        return info;
+    }
+
+    private void storeInfo(File infoFile, URL url,
+            ClassicHttpResponse response) throws IOException {
+        Properties info = new Properties();
+        info.setProperty(URL, url.toString());
+
+        // Weak ETags cannot be used in If-Range
+        Header etag = response.getFirstHeader("ETag");
+        Header lastModified = response.getFirstHeader("Last-Modified");
+        if (etag != null && !etag.getValue().startsWith("W/")) {
+            info.setProperty(VALIDATOR, etag.getValue());
+        } else if (lastModified != null) {
+            info.setProperty(VALIDATOR, lastModified.getValue());
+        }
+        long length = response.getEntity() != null
+                ? response.getEntity().getContentLength()
+                : -1;
+        if (length >= 0) {
+            info.setProperty(LENGTH, String.valueOf(length));
+        }
+
+        File parent = infoFile.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (OutputStream fos = new FileOutputStream(infoFile)) {
+            info.store(fos, "WebDriverManager Partial Download");
+        }
+    }
+
+}
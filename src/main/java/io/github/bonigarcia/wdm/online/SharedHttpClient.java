@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.online;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.io.CloseMode;
+import org.slf4j.Logger;
+
+/**
+ * HTTP client (and connection pool) shared in the JVM by all the instances of
+ * HttpClient with the same configuration (proxy and timeout). It is
+ * reference-counted, and it is closed some time after its last reference is
+ * released (so the TLS sessions and keep-alive connections are reused by
+ * consecutive resolutions).
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class SharedHttpClient {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final long LINGER_SEC = 60;
+
+    static final Map<String, SharedHttpClient> sharedClients = new HashMap<>();
+
+    static final ScheduledExecutorService closeExecutor = Executors
+            .newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wdm-http-client-close");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    final String key;
+    final CloseableHttpClient closeableHttpClient;
+    final PoolingHttpClientConnectionManager connectionManager;
+    int references;
+    ScheduledFuture<?> closing;
+
+    SharedHttpClient(String key, CloseableHttpClient closeableHttpClient,
+            PoolingHttpClientConnectionManager connectionManager) {
+        this.key = key;
+        this.closeableHttpClient = closeableHttpClient;
+        this.connectionManager = connectionManager;
+    }
+
+    static SharedHttpClient acquire(String key,
+            Supplier<SharedHttpClient> factory) {
+        synchronized (sharedClients) {
+            SharedHttpClient sharedClient = sharedClients.get(key);
+            if (sharedClient == null) {
+                sharedClient = factory.get();
+                sharedClients.put(key, sharedClient);
+                log.trace("Created shared HTTP client {}", sharedClient);
+            }
+            if (sharedClient.closing != null) {
+                sharedClient.closing.cancel(false);
+                sharedClient.closing = null;
+            }
+            sharedClient.references++;
+            return sharedClient;
+        }
+    }
+
+    void release() {
+        synchronized (sharedClients) {
+            if (--references == 0) {
+                closing = closeExecutor.schedule(this::closeIfUnused,
+                        LINGER_SEC, SECONDS);
+            }
+        }
+    }
+
+    void closeIfUnused() {
+        synchronized (sharedClients) {
+            if (references > 0 || sharedClients.get(key) != this) {
+                return;
+            }
+            sharedClients.remove(key);
+        }
+        log.trace("Closing shared HTTP client {}", this);
+        try {
+            closeableHttpClient.close();
+        } catch (IOException e) {
+            log.trace("Exception closing HTTP client ({})", e.getMessage());
+        }
+        connectionManager.close(CloseMode.GRACEFUL);
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toHexString(hashCode()) + " (references: " + references
+                + ")";
+    }
+
+}
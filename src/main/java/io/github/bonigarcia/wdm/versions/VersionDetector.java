@@ -55,8 +55,10 @@ import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.w3c.dom.Document;
 
+import io.github.bonigarcia.wdm.cache.ResolutionCache;
 import io.github.bonigarcia.wdm.config.Config;
 import io.github.bonigarcia.wdm.config.OperatingSystem;
+import io.github.bonigarcia.wdm.config.WebDriverManagerException;
 import io.github.bonigarcia.wdm.online.GoodVersions;
 import io.github.bonigarcia.wdm.online.GoodVersions.Versions;
 import io.github.bonigarcia.wdm.online.HttpClient;
@@ -86,12 +88,19 @@ public class VersionDetector {
 
     Config config;
     HttpClient httpClient;
+    ResolutionCache resolutionCache;
     Map<String, Properties> propertiesMap;
     boolean isSnap;
 
     public VersionDetector(Config config, HttpClient httpClient) {
+        this(config, httpClient, null);
+    }
+
+    public VersionDetector(Config config, HttpClient httpClient,
+            ResolutionCache resolutionCache) {
         this.config = config;
         this.httpClient = httpClient;
+        this.resolutionCache = resolutionCache;
         propertiesMap = new HashMap<>();
     }
 
@@ -112,6 +121,7 @@ public class VersionDetector {
                 if (driverVersion.isPresent() && isCfT(driverVersion.get())) {
                     // Parse JSON using GoodVersions
                     cftUrl = config.getChromeGoodVersionsUrl();
+                    checkUnreachableHost(cftUrl);
 
                     GoodVersions versions = Parser.parseJson(httpClient, cftUrl,
                             GoodVersions.class);
@@ -125,6 +135,7 @@ public class VersionDetector {
                 } else if (!driverVersion.isPresent()) {
                     // Parse JSON using LastGoodVersions
                     cftUrl = config.getChromeLastGoodVersionsUrl();
+                    checkUnreachableHost(cftUrl);
 
                     LastGoodVersions versions = Parser.parseJson(httpClient,
                             cftUrl, LastGoodVersions.class);
@@ -135,6 +146,7 @@ public class VersionDetector {
                 log.warn(
                         "Exception reading CfT URL ('{}') to get version of {} ({})",
                         cftUrl, driverName, e.getMessage());
+                storeUnreachableHost(cftUrl, e);
                 try {
                     driverUrl = new URL(CFT_URL);
                 } catch (MalformedURLException e1) {
@@ -173,8 +185,9 @@ public class VersionDetector {
             Charset versionCharset) {
         Optional<String> result = Optional.empty();
         try (InputStream response = httpClient
-                .execute(httpClient.createHttpGet(new URL(url))).getEntity()
-                .getContent()) {
+                .execute(httpClient
+                        .createHttpGet(new URL(checkUnreachableHost(url))))
+                .getEntity().getContent()) {
             result = Optional.of(IOUtils
                     .toString(response,
                             (versionCharset != null ? versionCharset
@@ -183,10 +196,42 @@ public class VersionDetector {
         } catch (Exception e) {
             log.warn("Exception reading {} to get latest version of {} ({})",
                     url, driverName, e.getMessage());
+            storeUnreachableHost(url, e);
         }
         return result;
     }
 
+    protected String checkUnreachableHost(String url) throws IOException {
+        if (isNegativeCachingEnabled()) {
+            String host = new URL(url).getHost();
+            Optional<String> error = resolutionCache
+                    .getErrorFromResolutionCache(host);
+            if (error.isPresent()) {
+                throw new WebDriverManagerException("Host " + host
+                        + " recently unreachable (" + error.get() + ")");
+            }
+        }
+        return url;
+    }
+
+    protected void storeUnreachableHost(String url, Exception e) {
+        // Only connection errors (e.g., unknown host or timeout) are stored,
+        // since these are the ones that make each request slow
+        if (isNegativeCachingEnabled() && e instanceof IOException) {
+            try {
+                resolutionCache.putErrorInResolutionCache(
+                        new URL(url).getHost(), e, config.getTtlForErrors());
+            } catch (MalformedURLException e1) {
+                log.trace("Exception storing unreachable host {}: {}", url,
+                        e1.getMessage());
+            }
+        }
+    }
+
+    protected boolean isNegativeCachingEnabled() {
+        return resolutionCache != null && config.getTtlForErrors() > 0;
+    }
+
     public Optional<Path> getBrowserPath(String browserName) {
         log.debug("Detecting {} path using the commands database", browserName);
 
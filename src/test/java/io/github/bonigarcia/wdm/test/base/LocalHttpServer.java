@@ -0,0 +1,87 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.base;
+
+import static org.openqa.selenium.net.PortProber.findFreePort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local HTTP server for tests, serving all the requests with a given handler.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+public class LocalHttpServer implements AutoCloseable {
+
+    final HttpServer server;
+    final ExecutorService executor;
+
+    private LocalHttpServer(HttpHandler handler) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(findFreePort()), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "wdm-test-http-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", handler);
+        server.start();
+    }
+
+    public static LocalHttpServer start(HttpHandler handler)
+            throws IOException {
+        return new LocalHttpServer(handler);
+    }
+
+    public static void send(HttpExchange exchange, int statusCode,
+            byte[] body) throws IOException {
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    public URL getUrl(String path) throws MalformedURLException {
+        return new URL(getBaseUrl() + path);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.BlobStore;
+
+/**
+ * Test for the content-addressed store of driver binaries.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class BlobStoreTest {
+
+    static final String CONTENT = "chromedriver binary";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDedup() throws IOException {
+        BlobStore blobStore = new BlobStore(tempDir.toFile());
+        File driver1 = createDriver("140.0.7339.82", CONTENT);
+        File driver2 = createDriver("140.0.7339.185", CONTENT);
+        String digest = BlobStore.sha256(driver1);
+        blobStore.store(driver1);
+        blobStore.store(driver2);
+
+        // The identical binaries are stored once, and linked to the blob
+        File blob = getBlob(digest);
+        assertThat(getBlobsFolder().listFiles()).containsExactly(blob);
+        assertThat(Files.isSameFile(driver1.toPath(), blob.toPath())).isTrue();
+        assertThat(Files.isSameFile(driver2.toPath(), blob.toPath())).isTrue();
+        assertThat(driver2).hasContent(CONTENT);
+        assertThat(driver2.canExecute()).isTrue();
+    }
+
+    @Test
+    void testSymbolicLinkFallback() throws IOException {
+        BlobStore blobStore = new BlobStore(tempDir.toFile()) {
+            @Override
+            protected void createLink(Path link, Path blob) {
+                throw new UnsupportedOperationException("No hard links");
+            }
+        };
+        File driver = createDriver("140.0.7339.82", CONTENT);
+        blobStore.store(driver);
+
+        Path blob = getBlob(BlobStore.sha256(driver)).toPath();
+        assertThat(Files.isSymbolicLink(driver.toPath())).isTrue();
+        assertThat(Files.readSymbolicLink(driver.toPath())).isEqualTo(blob);
+        assertThat(driver).hasContent(CONTENT);
+    }
+
+    @Test
+    void testCopyFallback() throws IOException {
+        BlobStore blobStore = new BlobStore(tempDir.toFile()) {
+            @Override
+            protected void createLink(Path link, Path blob) throws IOException {
+                throw new IOException("No hard links");
+            }
+
+            @Override
+            protected void createSymbolicLink(Path link, Path blob)
+                    throws IOException {
+                throw new IOException("No symbolic links");
+            }
+        };
+        File driver = createDriver("140.0.7339.82", CONTENT);
+        blobStore.store(driver);
+
+        Path blob = getBlob(BlobStore.sha256(driver)).toPath();
+        assertThat(Files.isSymbolicLink(driver.toPath())).isFalse();
+        assertThat(Files.isSameFile(driver.toPath(), blob)).isFalse();
+        assertThat(driver).hasContent(CONTENT);
+        assertThat(blob).hasContent(CONTENT);
+    }
+
+    @Test
+    void testMissingBlob() throws IOException {
+        BlobStore blobStore = new BlobStore(tempDir.toFile()) {
+            @Override
+            protected void createLink(Path link, Path blob) {
+                throw new UnsupportedOperationException("No hard links");
+            }
+        };
+        File driver = createDriver("140.0.7339.82", CONTENT);
+        String digest = BlobStore.sha256(driver);
+        blobStore.store(driver);
+
+        // A driver linked to a missing blob is not available (and therefore,
+        // it is downloaded and stored again)
+        Files.delete(getBlob(digest).toPath());
+        assertThat(driver).doesNotExist();
+
+        File newDriver = createDriver("140.0.7339.185", CONTENT);
+        blobStore.store(newDriver);
+        assertThat(getBlob(digest)).hasContent(CONTENT);
+        assertThat(newDriver).hasContent(CONTENT);
+    }
+
+    @Test
+    void testCorruptedBlob() throws IOException {
+        BlobStore blobStore = new BlobStore(tempDir.toFile());
+        File driver = createDriver("140.0.7339.82", CONTENT);
+        String digest = BlobStore.sha256(driver);
+        blobStore.store(driver);
+
+        // A blob with the same size but different content is replaced
+        File blob = getBlob(digest);
+        Files.delete(blob.toPath());
+        Files.write(blob.toPath(), CONTENT.toUpperCase().getBytes(UTF_8));
+
+        File newDriver = createDriver("140.0.7339.185", CONTENT);
+        blobStore.store(newDriver);
+        assertThat(getBlob(digest)).hasContent(CONTENT);
+        assertThat(BlobStore.sha256(newDriver)).isEqualTo(digest);
+    }
+
+    private File createDriver(String version, String content)
+            throws IOException {
+        File driver = tempDir.resolve("chromedriver").resolve("linux64")
+                .resolve(version).resolve("chromedriver").toFile();
+        driver.getParentFile().mkdirs();
+        Files.write(driver.toPath(), content.getBytes(UTF_8));
+        return driver;
+    }
+
+    private File getBlobsFolder() {
+        return tempDir.resolve("blobs").resolve("sha256").toFile();
+    }
+
+    private File getBlob(String digest) {
+        return new File(getBlobsFolder(), digest);
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static io.github.bonigarcia.wdm.config.Architecture.X64;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.BlobStore;
+import io.github.bonigarcia.wdm.cache.CacheEvictor;
+import io.github.bonigarcia.wdm.cache.DriverManifest;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Test for the eviction of least recently used drivers from cache.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class CacheEvictorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEvictLeastRecentlyUsed() throws IOException {
+        File oldest = createDriver("138.0.7204.183");
+        File used = createDriver("139.0.7258.154");
+        File newest = createDriver("140.0.7339.82");
+        oldest.getParentFile().setLastModified(1000);
+        used.getParentFile().setLastModified(2000);
+        newest.getParentFile().setLastModified(3000);
+
+        // The access is recorded, but eviction is done below synchronously
+        Config config = new Config().setCachePath(tempDir.toString())
+                .setCacheMaxDrivers(Integer.MAX_VALUE);
+        CacheEvictor.recordAccess(config, used);
+
+        List<File> evicted = CacheEvictor.evict(tempDir.toFile(), 0, 2);
+        assertThat(evicted).containsExactly(oldest.getParentFile());
+        evicted = CacheEvictor.evict(tempDir.toFile(), 0, 1);
+        assertThat(evicted).containsExactly(newest.getParentFile());
+        assertThat(used).exists();
+    }
+
+    @Test
+    void testEvictBlobs() throws IOException {
+        // Two versions share the same blob, and the third has its own
+        BlobStore blobStore = new BlobStore(tempDir.toFile());
+        File oldest = blobStore.store(createDriver("138.0.7204.183", "same"));
+        File used = blobStore.store(createDriver("139.0.7258.154", "same"));
+        File newest = blobStore
+                .store(createDriver("140.0.7339.82", "different"));
+        oldest.getParentFile().setLastModified(1000);
+        used.getParentFile().setLastModified(2000);
+        newest.getParentFile().setLastModified(3000);
+        File blobs = tempDir.resolve("blobs").resolve("sha256").toFile();
+        assertThat(blobs.listFiles(File::isFile)).hasSize(2);
+
+        // Each blob is counted once ("same" + "different" = 13 bytes)
+        assertThat(CacheEvictor.evict(tempDir.toFile(), 13, 0)).isEmpty();
+
+        // The shared blob is kept while referenced by another version
+        List<File> evicted = CacheEvictor.evict(tempDir.toFile(), 0, 2);
+        assertThat(evicted).containsExactly(oldest.getParentFile());
+        assertThat(blobs.listFiles(File::isFile)).hasSize(2);
+
+        // The blob is deleted when no longer referenced
+        evicted = CacheEvictor.evict(tempDir.toFile(), 9, 0);
+        assertThat(evicted).containsExactly(used.getParentFile());
+        assertThat(blobs.listFiles(File::isFile)).hasSize(1);
+        assertThat(newest).hasContent("different");
+    }
+
+    @Test
+    void testEvictOnlyDrivers() throws IOException {
+        File driver = createDriver("140.0.7339.82");
+        driver.getParentFile().setLastModified(1000);
+        // E.g., browser stored by Selenium Manager in the same cache
+        Path browser = tempDir.resolve("chrome").resolve("linux64")
+                .resolve("140.0.7339.82").resolve("chrome");
+        Files.createDirectories(browser.getParent());
+        Files.write(browser, new byte[1024]);
+
+        assertThat(CacheEvictor.evict(tempDir.toFile(), 100, 0)).isEmpty();
+        assertThat(tempDir.resolve("access.properties")).content()
+                .contains("total.size=" + driver.length());
+        assertThat(CacheEvictor.evict(tempDir.toFile(), 0, 0)).isEmpty();
+
+        File newer = createDriver("141.0.7390.54");
+        assertThat(CacheEvictor.evict(tempDir.toFile(), 0, 1))
+                .containsExactly(driver.getParentFile());
+        assertThat(newer).exists();
+        assertThat(browser).exists();
+    }
+
+    private File createDriver(String version) throws IOException {
+        return createDriver(version, version);
+    }
+
+    private File createDriver(String version, String content)
+            throws IOException {
+        Path driver = tempDir.resolve("chromedriver").resolve("linux64")
+                .resolve(version).resolve("chromedriver");
+        Files.createDirectories(driver.getParent());
+        File driverFile = Files.write(driver, content.getBytes()).toFile();
+        new DriverManifest(tempDir.toFile()).putDriver("chromedriver",
+                version, "linux", X64, driverFile);
+        return driverFile;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static io.github.bonigarcia.wdm.config.DriverManagerType.CHROME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.BlobStore;
+import io.github.bonigarcia.wdm.cache.DriverDigests;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Downloader;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the verification of the drivers in cache using their digests.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class DriverDigestsTest {
+
+    static final String DRIVER = "chromedriver";
+    static final String VERSION = "140.0.7339.82";
+
+    LocalHttpServer server;
+    URL url;
+    AtomicInteger requests = new AtomicInteger();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(DRIVER));
+            zip.write(DRIVER.getBytes(UTF_8));
+        }
+        byte[] archive = bytes.toByteArray();
+
+        server = LocalHttpServer.start(exchange -> {
+            requests.incrementAndGet();
+            LocalHttpServer.send(exchange, 200, archive);
+        });
+        url = server.getUrl("/chromedriver-linux64.zip");
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testDigestRecorded() throws IOException {
+        File driver = download();
+        DriverDigests digests = new DriverDigests();
+
+        assertThat(DriverDigests.getDigestFile(driver)).content()
+                .contains(BlobStore.sha256(driver));
+        assertThat(digests.verify(driver)).isTrue();
+
+        // Only the modification time changes: the driver is hashed again
+        assertThat(driver.setLastModified(driver.lastModified() - 60_000))
+                .isTrue();
+        assertThat(digests.verify(driver)).isTrue();
+        assertThat(download()).isEqualTo(driver);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void testCorruptedDriver() throws IOException {
+        File driver = download();
+        long lastModified = driver.lastModified();
+
+        // Same size and modification time, but different content
+        Files.write(driver.toPath(), "xxxxxxxxxxxx".getBytes(UTF_8));
+        assertThat(driver.setLastModified(lastModified - 60_000)).isTrue();
+        assertThat(new DriverDigests().verify(driver)).isFalse();
+
+        // The corrupted driver is downloaded again
+        assertThat(download()).isEqualTo(driver).hasContent(DRIVER);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void testCacheMounted(@TempDir Path mountDir) throws IOException {
+        File driver = download();
+        long lastModified = driver.lastModified();
+
+        // The cache is available in other path (e.g., shared filesystem)
+        File mountedDriver = mountDir
+                .resolve(tempDir.relativize(driver.toPath())).toFile();
+        FileUtils.copyDirectory(tempDir.toFile(), mountDir.toFile());
+        Files.write(mountedDriver.toPath(), "xxxxxxxxxxxx".getBytes(UTF_8));
+        assertThat(mountedDriver.setLastModified(lastModified - 60_000))
+                .isTrue();
+        assertThat(new DriverDigests().verify(mountedDriver)).isFalse();
+    }
+
+    private File download() throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString());
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        return new File(downloader.download(url, VERSION, DRIVER, CHROME));
+    }
+
+    private List<File> findDriver(File archive) {
+        return Collections
+                .singletonList(new File(archive.getParentFile(), DRIVER));
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static io.github.bonigarcia.wdm.config.Architecture.X64;
+import static io.github.bonigarcia.wdm.config.DriverManagerType.CHROME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.CacheHandler;
+import io.github.bonigarcia.wdm.cache.DriverManifest;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Test for the driver cache manifest.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class DriverManifestTest {
+
+    static final String DRIVER_NAME = "chromedriver";
+    static final String DRIVER_VERSION = "140.0.7339.82";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDriverManifest() throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString());
+        CacheHandler cacheHandler = new CacheHandler(config);
+        File driver = tempDir.resolve(DRIVER_NAME).resolve("linux64")
+                .resolve(DRIVER_VERSION).resolve(DRIVER_NAME).toFile();
+        Files.createDirectories(driver.getParentFile().toPath());
+        Files.createFile(driver.toPath());
+
+        // Found by scanning the cache, and then stored in the manifest
+        Optional<String> driverInCache = getDriverFromCache(cacheHandler);
+        assertThat(driverInCache).contains(driver.toString());
+        File manifest = tempDir.resolve("manifest.properties").toFile();
+        assertThat(manifest).content().contains(DRIVER_VERSION);
+
+        // Found in the manifest by a new handler
+        assertThat(getDriverFromCache(new CacheHandler(config)))
+                .contains(driver.toString());
+
+        // Removed from the manifest when the driver no longer exists
+        Files.delete(driver.toPath());
+        assertThat(getDriverFromCache(cacheHandler)).isEmpty();
+        assertThat(manifest).content().doesNotContain(DRIVER_VERSION);
+    }
+
+    @Test
+    void testCacheMounted(@TempDir Path mountDir) throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString());
+        File driver = tempDir.resolve(DRIVER_NAME).resolve("linux64")
+                .resolve(DRIVER_VERSION).resolve(DRIVER_NAME).toFile();
+        Files.createDirectories(driver.getParentFile().toPath());
+        Files.createFile(driver.toPath());
+        assertThat(getDriverFromCache(new CacheHandler(config))).isPresent();
+        File manifest = tempDir.resolve("manifest.properties").toFile();
+        assertThat(manifest).content().doesNotContain(tempDir.toString());
+
+        // The cache is available in other path (e.g., shared filesystem)
+        FileUtils.copyDirectory(tempDir.toFile(), mountDir.toFile());
+        File mountedDriver = mountDir
+                .resolve(tempDir.relativize(driver.toPath())).toFile();
+        assertThat(new DriverManifest(mountDir.toFile()).getDriver(DRIVER_NAME,
+                DRIVER_VERSION, "linux", X64)).contains(mountedDriver);
+    }
+
+    private Optional<String> getDriverFromCache(CacheHandler cacheHandler) {
+        return cacheHandler.getDriverFromCache(DRIVER_VERSION, DRIVER_NAME,
+                CHROME, X64, "linux");
+    }
+
+}
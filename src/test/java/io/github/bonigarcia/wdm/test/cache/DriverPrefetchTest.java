@@ -0,0 +1,127 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static io.github.bonigarcia.wdm.config.OperatingSystem.LINUX;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the background prefetch of upcoming driver versions.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class DriverPrefetchTest {
+
+    static final String DRIVER = "chromedriver";
+    static final String CURRENT = "140.0.7339.82";
+    static final String STABLE = "141.0.7390.54";
+    static final String BETA = "142.0.7444.3";
+
+    LocalHttpServer server;
+    String baseUrl;
+    List<String> requests = new CopyOnWriteArrayList<>();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("chromedriver-linux64/" + DRIVER));
+            zip.write(DRIVER.getBytes(UTF_8));
+        }
+        byte[] archive = bytes.toByteArray();
+        byte[] lastGoodVersions = ("{\"channels\":{"
+                + "\"Stable\":{\"channel\":\"Stable\",\"version\":\"" + STABLE
+                + "\"},\"Beta\":{\"channel\":\"Beta\",\"version\":\"" + BETA
+                + "\"}}}").getBytes(UTF_8);
+
+        server = LocalHttpServer.start(exchange -> {
+            requests.add(exchange.getRequestURI().getPath());
+            byte[] body = exchange.getRequestURI().getPath().endsWith(".json")
+                    ? lastGoodVersions
+                    : archive;
+            LocalHttpServer.send(exchange, 200, body);
+        });
+        baseUrl = server.getBaseUrl();
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testDriverPrefetch() throws InterruptedException {
+        WebDriverManager wdm = WebDriverManager.chromedriver()
+                .cachePath(tempDir.toString()).driverVersion(CURRENT)
+                .operatingSystem(LINUX).arch64()
+                .useDriverPrefetch();
+        wdm.config().setChromeDownloadUrlPattern(
+                baseUrl + "/%s/%s/chromedriver-%s.zip")
+                .setChromeLastGoodVersionsUrl(baseUrl + "/versions.json");
+        wdm.setup();
+        assertThat(wdm.getDownloadedDriverPath()).contains(CURRENT);
+
+        // The drivers of the stable and beta channels are downloaded in the
+        // background
+        File stableDriver = getCachedDriver(STABLE);
+        File betaDriver = getCachedDriver(BETA);
+        for (int i = 0; i < 100
+                && !(stableDriver.exists() && betaDriver.exists()); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(stableDriver).hasContent(DRIVER);
+        assertThat(betaDriver).hasContent(DRIVER);
+
+        // After the browser update, the driver is already in the cache
+        requests.clear();
+        WebDriverManager updatedWdm = WebDriverManager.chromedriver()
+                .cachePath(tempDir.toString()).driverVersion(STABLE)
+                .operatingSystem(LINUX).arch64();
+        updatedWdm.setup();
+        assertThat(updatedWdm.getDownloadedDriverPath())
+                .isEqualTo(stableDriver.getPath());
+        assertThat(requests).isEmpty();
+    }
+
+    private File getCachedDriver(String version) {
+        return tempDir.resolve(DRIVER).resolve("linux64").resolve(version)
+                .resolve(DRIVER).toFile();
+    }
+
+}
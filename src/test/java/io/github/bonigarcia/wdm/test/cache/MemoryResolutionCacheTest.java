@@ -0,0 +1,62 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.bonigarcia.wdm.cache.MemoryResolutionCacheBackend;
+import io.github.bonigarcia.wdm.cache.ResolutionCache;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Test for the resolution cache kept in memory.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class MemoryResolutionCacheTest {
+
+    @Test
+    void testReloadOnlyWhenChanged() {
+        Config config = new Config().setResolutionCacheBackend("memory");
+        MemoryResolutionCacheBackend backend = new MemoryResolutionCacheBackend(
+                config);
+        backend.clear();
+        backend.load();
+        assertThat(backend.reload()).isEmpty();
+
+        // The changes of others are reloaded (only once)
+        ResolutionCache otherCache = new ResolutionCache(config);
+        otherCache.putValueInResolutionCacheIfEmpty("chrome", "140", 3600);
+        Optional<Properties> reloaded = backend.reload();
+        assertThat(reloaded).isPresent();
+        assertThat(reloaded.get().getProperty("chrome")).isEqualTo("140");
+        assertThat(backend.reload()).isEmpty();
+
+        // The own changes are not reloaded
+        backend.store(reloaded.get(), "chrome", "");
+        assertThat(backend.reload()).isEmpty();
+        assertThat(new MemoryResolutionCacheBackend(config).load())
+                .doesNotContainKey("chrome");
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.online.LastGoodVersions;
+import io.github.bonigarcia.wdm.online.Parser;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the cache of metadata using conditional requests.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class MetadataCacheTest {
+
+    LocalHttpServer server;
+    String url;
+    String stableVersion = "140.0.7339.82";
+    List<Integer> responseCodes = new CopyOnWriteArrayList<>();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = LocalHttpServer.start(exchange -> {
+            String etag = "\"" + stableVersion + "\"";
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders()
+                    .getFirst("If-None-Match"))) {
+                responseCodes.add(304);
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = ("{\"channels\":{\"Stable\":{\"version\":\""
+                    + stableVersion + "\"}}}").getBytes(UTF_8);
+            responseCodes.add(200);
+            LocalHttpServer.send(exchange, 200, body);
+        });
+        url = server.getBaseUrl()
+                + "/last-known-good-versions-with-downloads.json";
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testNotModified() throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString())
+                .setMetadataCache(true);
+        assertThat(getStableVersion(config)).isEqualTo(stableVersion);
+        assertThat(getStableVersion(config)).isEqualTo(stableVersion);
+        assertThat(responseCodes).containsExactly(200, 304);
+
+        // When the metadata changes, the new content is read (and stored)
+        stableVersion = "141.0.7390.54";
+        assertThat(getStableVersion(config)).isEqualTo(stableVersion);
+        assertThat(getStableVersion(config)).isEqualTo(stableVersion);
+        assertThat(responseCodes).containsExactly(200, 304, 200, 304);
+    }
+
+    @Test
+    void testMetadataCacheDisabled() throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString());
+        assertThat(getStableVersion(config)).isEqualTo(stableVersion);
+        assertThat(getStableVersion(config)).isEqualTo(stableVersion);
+        assertThat(responseCodes).containsExactly(200, 200);
+        assertThat(tempDir.resolve("metadata")).doesNotExist();
+    }
+
+    private String getStableVersion(Config config) throws IOException {
+        try (HttpClient httpClient = new HttpClient(config)) {
+            return Parser.parseJson(httpClient, url,
+                    LastGoodVersions.class).channels.stable.version;
+        }
+    }
+
+}
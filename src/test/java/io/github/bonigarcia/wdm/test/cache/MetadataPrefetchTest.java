@@ -0,0 +1,102 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.online.LastGoodVersions;
+import io.github.bonigarcia.wdm.online.MetadataCache;
+import io.github.bonigarcia.wdm.online.Parser;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the asynchronous prefetch of metadata.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class MetadataPrefetchTest {
+
+    static final String STABLE_VERSION = "140.0.7339.82";
+
+    LocalHttpServer server;
+    URL url;
+    AtomicInteger requests = new AtomicInteger();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = LocalHttpServer.start(exchange -> {
+            requests.incrementAndGet();
+            try {
+                // Slow response, so the prefetch is still in progress
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"channels\":{\"Stable\":{\"version\":\""
+                    + STABLE_VERSION + "\"}}}").getBytes(UTF_8);
+            LocalHttpServer.send(exchange, 200, body);
+        });
+        url = server.getUrl("/last-known-good-versions-with-downloads.json");
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testPrefetch() throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString());
+        try (HttpClient httpClient = new HttpClient(config)) {
+            CompletableFuture<byte[]> prefetch = MetadataCache
+                    .prefetch(httpClient, url);
+            assertThat(prefetch).isNotDone();
+
+            // The pending prefetch is reused instead of requesting again
+            assertThat(getStableVersion(httpClient)).isEqualTo(STABLE_VERSION);
+            assertThat(requests).hasValue(1);
+
+            // The prefetched response is used only once
+            assertThat(getStableVersion(httpClient)).isEqualTo(STABLE_VERSION);
+            assertThat(requests).hasValue(2);
+        }
+    }
+
+    private String getStableVersion(HttpClient httpClient) throws IOException {
+        return Parser.parseJson(httpClient, url.toString(),
+                LastGoodVersions.class).channels.stable.version;
+    }
+
+}
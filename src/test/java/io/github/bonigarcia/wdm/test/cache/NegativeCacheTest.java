@@ -0,0 +1,105 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.ZipException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.config.WebDriverManagerException;
+import io.github.bonigarcia.wdm.managers.ChromeDriverManager;
+import io.github.bonigarcia.wdm.online.CircuitBreakerOpenException;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.online.HttpStatusException;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+
+/**
+ * Test for negative entries (i.e., unreachable hosts and network errors) in
+ * the resolution cache.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class NegativeCacheTest {
+
+    static final String UNREACHABLE_HOST = "wdm.invalid";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testUnreachableHost() {
+        Config config = new Config().setResolutionCachePath(tempDir.toString())
+                .setTtlForErrors(60);
+        ResolutionCache resolutionCache = new ResolutionCache(config);
+        VersionDetector versionDetector = new VersionDetector(config,
+                new HttpClient(config), resolutionCache);
+
+        Optional<String> content = versionDetector.readUrlContent(
+                "https://" + UNREACHABLE_HOST + "/LATEST_RELEASE",
+                "chromedriver", null);
+        assertThat(content).isEmpty();
+        assertThat(resolutionCache.getErrorFromResolutionCache(UNREACHABLE_HOST))
+                .isPresent();
+
+        ResolutionCache reloadedCache = new ResolutionCache(config);
+        assertThat(reloadedCache.getErrorFromResolutionCache(UNREACHABLE_HOST))
+                .contains("java.net.UnknownHostException");
+    }
+
+    @Test
+    void testOnlyNetworkErrors() {
+        NetworkErrorManager manager = new NetworkErrorManager();
+        assertThat(manager.check(new UnknownHostException(UNREACHABLE_HOST)))
+                .isTrue();
+        assertThat(manager.check(new WebDriverManagerException(
+                new SocketTimeoutException("Read timed out")))).isTrue();
+        assertThat(manager.check(new HttpStatusException(
+                "Error HTTP 503 executing https://" + UNREACHABLE_HOST, 503)))
+                .isTrue();
+        assertThat(manager.check(new WebDriverManagerException(
+                new CircuitBreakerOpenException(UNREACHABLE_HOST,
+                        Instant.now())))).isTrue();
+
+        // Local errors (e.g., extraction, disk full) are not stored
+        assertThat(manager.check(new ZipException("invalid entry size")))
+                .isFalse();
+        assertThat(manager.check(new IOException("No space left on device")))
+                .isFalse();
+        assertThat(manager.check(
+                new WebDriverManagerException("Driver chromedriver not found")))
+                .isFalse();
+    }
+
+    static class NetworkErrorManager extends ChromeDriverManager {
+        boolean check(Exception e) {
+            return isNetworkError(e);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Test for the expiration of the resolutions stored in cache.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class ResolutionCacheExpirationTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExpiredResolution() throws InterruptedException {
+        Config config = new Config()
+                .setResolutionCachePath(tempDir.toString());
+        ResolutionCache resolutionCache = new ResolutionCache(config);
+        resolutionCache.putValueInResolutionCacheIfEmpty("chrome", "139", 1);
+        assertThat(resolutionCache.getValueFromResolutionCache("chrome"))
+                .isEqualTo("139");
+        Thread.sleep(SECONDS.toMillis(1) + 100);
+
+        // Expired entries are absent, and they are swept when read
+        assertThat(resolutionCache.getValueFromResolutionCache("chrome"))
+                .isNull();
+        assertThat(tempDir.resolve("resolution.properties")).content()
+                .doesNotContain("chrome");
+        assertThat(new ResolutionCache(config)
+                .getValueFromResolutionCache("chrome")).isNull();
+    }
+
+    @Test
+    void testPutIfExpired() throws InterruptedException {
+        Config config = new Config()
+                .setResolutionCachePath(tempDir.toString());
+        ResolutionCache resolutionCache = new ResolutionCache(config);
+        resolutionCache.putValueInResolutionCacheIfEmpty("chrome", "139", 1);
+        Thread.sleep(SECONDS.toMillis(1) + 100);
+
+        // Expired entries are replaced, and the index is consistent with the
+        // stored cache
+        resolutionCache.putValueInResolutionCacheIfEmpty("chrome", "140",
+                3600);
+        assertThat(resolutionCache.getValueFromResolutionCache("chrome"))
+                .isEqualTo("140");
+        assertThat(resolutionCache.checkKeyInResolutionCache("chrome"))
+                .isTrue();
+        ResolutionCache reloadedCache = new ResolutionCache(config);
+        assertThat(reloadedCache.getValueFromResolutionCache("chrome"))
+                .isEqualTo("140");
+        assertThat(tempDir.resolve("resolution.properties")).content()
+                .contains("chrome=140").doesNotContain("chrome=139");
+    }
+
+}
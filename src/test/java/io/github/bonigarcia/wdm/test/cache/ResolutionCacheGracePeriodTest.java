@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.managers.ChromeDriverManager;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the grace period of expired resolutions (stale-while-revalidate).
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class ResolutionCacheGracePeriodTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testStaleWhileRevalidate() throws InterruptedException {
+        Config config = new Config().setResolutionCachePath(tempDir.toString())
+                .setResolutionCacheGracePeriod(60);
+        ResolutionCache resolutionCache = new ResolutionCache(config);
+        resolutionCache.putValueInResolutionCacheIfEmpty("chrome", "139", 1);
+        Thread.sleep(SECONDS.toMillis(1) + 100);
+
+        assertThat(resolutionCache.checkKeyInResolutionCache("chrome"))
+                .isTrue();
+        assertThat(resolutionCache.isStale("chrome")).isTrue();
+
+        CountDownLatch revalidated = new CountDownLatch(1);
+        resolutionCache.revalidate("chrome", () -> {
+            revalidated.countDown();
+            return Optional.of("140");
+        }, 3600);
+        assertThat(revalidated.await(5, SECONDS)).isTrue();
+        Thread.sleep(500);
+
+        assertThat(resolutionCache.getValueFromResolutionCache("chrome"))
+                .isEqualTo("140");
+        assertThat(resolutionCache.isStale("chrome")).isFalse();
+    }
+
+    @Test
+    void testRevalidationSnapshot() throws Exception {
+        List<String> requests = new CopyOnWriteArrayList<>();
+        try (LocalHttpServer server = LocalHttpServer.start(exchange -> {
+            requests.add(exchange.getRequestURI().getPath());
+            LocalHttpServer.send(exchange, 200,
+                    "100.0.4896.60".getBytes(UTF_8));
+        })) {
+            RevalidationManager manager = new RevalidationManager();
+            manager.config().setCachePath(tempDir.toString())
+                    .setResolutionCachePath(tempDir.toString())
+                    .setResolutionCacheGracePeriod(60)
+                    .setChromeDriverUrl(server.getUrl("/"));
+            ResolutionCache resolutionCache = manager.getResolutionCache();
+            resolutionCache.putValueInResolutionCacheIfEmpty("chrome100",
+                    "100.0.4896.20", 1);
+            Thread.sleep(SECONDS.toMillis(1) + 100);
+
+            // The background revalidation is not affected by the changes in
+            // the manager done after requesting it
+            manager.revalidateIfStale("chrome100");
+            manager.config().setChromeDriverUrl(new URL("http://localhost:1/"));
+
+            long timeout = System.currentTimeMillis() + SECONDS.toMillis(5);
+            while (resolutionCache.isStale("chrome100")
+                    && System.currentTimeMillis() < timeout) {
+                Thread.sleep(100);
+            }
+            assertThat(
+                    resolutionCache.getValueFromResolutionCache("chrome100"))
+                    .isEqualTo("100.0.4896.60");
+            assertThat(requests).containsExactly("/LATEST_RELEASE_100");
+        }
+    }
+
+    static class RevalidationManager extends ChromeDriverManager {
+
+        @Override
+        protected ResolutionCache getResolutionCache() {
+            return super.getResolutionCache();
+        }
+
+        @Override
+        protected void revalidateIfStale(String key) {
+            super.revalidateIfStale(key);
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Test for the journaled resolution cache.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class ResolutionCacheJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testJournal() {
+        Config config = new Config()
+                .setResolutionCachePath(tempDir.toString())
+                .setResolutionCacheJournal(true);
+        ResolutionCache resolutionCache = new ResolutionCache(config);
+        resolutionCache.putValueInResolutionCacheIfEmpty("chrome", "140",
+                3600);
+        resolutionCache.putValueInResolutionCacheIfEmpty("chrome140",
+                "140.0.7339.82", 86400);
+
+        File resolutionCacheFile = tempDir
+                .resolve(config.getResolutionCache()).toFile();
+        File journalFile = tempDir
+                .resolve(config.getResolutionCache() + ".journal").toFile();
+        assertThat(resolutionCacheFile).isEmpty();
+        assertThat(journalFile).exists();
+
+        ResolutionCache reloadedCache = new ResolutionCache(config);
+        assertThat(reloadedCache.checkKeyInResolutionCache("chrome")).isTrue();
+        assertThat(reloadedCache.getValueFromResolutionCache("chrome140"))
+                .isEqualTo("140.0.7339.82");
+    }
+
+    @Test
+    void testCompaction() throws InterruptedException {
+        Config config = createConfig();
+        ResolutionCache resolutionCache = new ResolutionCache(config);
+        putRecords(resolutionCache);
+
+        File resolutionCacheFile = getResolutionCacheFile(config);
+        waitForCompaction(config);
+        assertThat(resolutionCacheFile).content().contains("chrome99=99.0");
+
+        ResolutionCache reloadedCache = new ResolutionCache(config);
+        for (int i = 0; i < 100; i++) {
+            assertThat(reloadedCache.getValueFromResolutionCache("chrome" + i))
+                    .isEqualTo(i + ".0");
+        }
+    }
+
+    @Test
+    void testInterruptedCompaction() throws Exception {
+        // The journal is renamed as in a compaction killed before finishing
+        Config config = createConfig();
+        new ResolutionCache(config)
+                .putValueInResolutionCacheIfEmpty("firefox", "143", 3600);
+        File compactingFile = getCompactingFile(config);
+        Files.move(getJournalFile(config).toPath(), compactingFile.toPath());
+
+        ResolutionCache resolutionCache = new ResolutionCache(config);
+        assertThat(resolutionCache.getValueFromResolutionCache("firefox"))
+                .isEqualTo("143");
+
+        // The next compaction recovers the records left
+        putRecords(resolutionCache);
+        waitForCompaction(config);
+        assertThat(getResolutionCacheFile(config)).content()
+                .contains("firefox=143").contains("chrome99=99.0");
+    }
+
+    private Config createConfig() {
+        return new Config().setResolutionCachePath(tempDir.toString())
+                .setResolutionCacheJournal(true);
+    }
+
+    private void putRecords(ResolutionCache resolutionCache) {
+        // Enough records to compact the journal
+        for (int i = 0; i < 100; i++) {
+            resolutionCache.putValueInResolutionCache("chrome" + i, i + ".0",
+                    3600);
+        }
+    }
+
+    private void waitForCompaction(Config config)
+            throws InterruptedException {
+        // The journal is renamed when the compaction starts, and the renamed
+        // file is deleted when it finishes
+        File journalFile = getJournalFile(config);
+        File compactingFile = getCompactingFile(config);
+        long timeout = System.currentTimeMillis() + SECONDS.toMillis(10);
+        while ((journalFile.exists() || compactingFile.exists())
+                && System.currentTimeMillis() < timeout) {
+            Thread.sleep(100);
+        }
+        assertThat(journalFile).doesNotExist();
+        assertThat(compactingFile).doesNotExist();
+    }
+
+    private File getResolutionCacheFile(Config config) {
+        return tempDir.resolve(config.getResolutionCache()).toFile();
+    }
+
+    private File getJournalFile(Config config) {
+        return tempDir.resolve(config.getResolutionCache() + ".journal")
+                .toFile();
+    }
+
+    private File getCompactingFile(Config config) {
+        return tempDir
+                .resolve(config.getResolutionCache() + ".journal.compacting")
+                .toFile();
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.ResolutionCache;
+import io.github.bonigarcia.wdm.config.Config;
+
+/**
+ * Test for the resolution cache shared among processes.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class ResolutionCacheLockTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMergeOnWrite() {
+        Config config = new Config().setResolutionCachePath(tempDir.toString())
+                .setResolutionCacheLock(true);
+
+        // Each instance simulates a different JVM sharing the cache
+        ResolutionCache firstCache = new ResolutionCache(config);
+        ResolutionCache secondCache = new ResolutionCache(config);
+        firstCache.putValueInResolutionCacheIfEmpty("chrome", "140", 3600);
+        secondCache.putValueInResolutionCacheIfEmpty("firefox", "143", 3600);
+
+        assertThat(firstCache.checkKeyInResolutionCache("firefox")).isTrue();
+
+        ResolutionCache reloadedCache = new ResolutionCache(config);
+        assertThat(reloadedCache.getValueFromResolutionCache("chrome"))
+                .isEqualTo("140");
+        assertThat(reloadedCache.getValueFromResolutionCache("firefox"))
+                .isEqualTo("143");
+    }
+
+}
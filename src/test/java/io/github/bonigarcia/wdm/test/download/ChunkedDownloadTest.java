@@ -0,0 +1,220 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.download;
+
+import static io.github.bonigarcia.wdm.config.DriverManagerType.EDGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Downloader;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the download of drivers using parallel range requests.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class ChunkedDownloadTest {
+
+    static final String DRIVER = "msedgedriver";
+    static final int DRIVER_SIZE = 8 * 1024 * 1024;
+
+    static LocalHttpServer server;
+    static byte[] driverContent;
+    static byte[] archive;
+    static AtomicInteger rangeRequests = new AtomicInteger();
+    static AtomicInteger fullRequests = new AtomicInteger();
+    static Queue<String> ifRangeHeaders = new ConcurrentLinkedQueue<>();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        driverContent = new byte[DRIVER_SIZE];
+        new Random(0).nextBytes(driverContent);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(DRIVER));
+            zip.write(driverContent);
+        }
+        archive = bytes.toByteArray();
+
+        server = LocalHttpServer.start(exchange -> serve(exchange,
+                !exchange.getRequestURI().getPath().startsWith("/noranges/")));
+    }
+
+    @AfterAll
+    static void teardown() {
+        server.close();
+    }
+
+    @BeforeEach
+    void resetCounters() {
+        rangeRequests.set(0);
+        fullRequests.set(0);
+        ifRangeHeaders.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void testChunkedDownload(boolean acceptRanges) throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString())
+                .setDownloadChunks(4);
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        URL url = server.getUrl((acceptRanges ? "/ranges" : "/noranges")
+                + "/edgedriver_linux64.zip");
+
+        File driver = new File(
+                downloader.download(url, "140.0.3485.54", DRIVER, EDGE));
+        assertThat(driver).hasBinaryContent(driverContent);
+        assertThat(driver.getParentFile().list()).contains(DRIVER)
+                .noneMatch(name -> name.endsWith(".chunked"));
+        assertThat(rangeRequests).hasValue(acceptRanges ? 4 : 0);
+        assertThat(fullRequests).hasValue(acceptRanges ? 0 : 1);
+    }
+
+    @Test
+    void testWeakEtag() throws IOException {
+        File driver = download("/weak/edgedriver_linux64.zip");
+        assertThat(driver).hasBinaryContent(driverContent);
+        assertThat(rangeRequests).hasValue(4);
+        assertThat(ifRangeHeaders).hasSize(4)
+                .allMatch("Thu, 01 Jan 2026 00:00:00 GMT"::equals);
+    }
+
+    @Test
+    void testChecksum() throws IOException {
+        File driver = download("/checksum/edgedriver_linux64.zip");
+        assertThat(driver).hasBinaryContent(driverContent);
+        assertThat(rangeRequests).hasValue(4);
+        assertThat(fullRequests).hasValue(0);
+    }
+
+    @Test
+    void testWrongChecksum() throws IOException {
+        // The reassembled archive is discarded and downloaded again
+        File driver = download("/wrongchecksum/edgedriver_linux64.zip");
+        assertThat(driver).hasBinaryContent(driverContent);
+        assertThat(rangeRequests).hasValue(4);
+        assertThat(fullRequests).hasValue(1);
+    }
+
+    private File download(String path) throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString())
+                .setDownloadChunks(4);
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        return new File(downloader.download(server.getUrl(path),
+                "140.0.3485.54", DRIVER, EDGE));
+    }
+
+    private List<File> findDriver(File archive) {
+        return Collections
+                .singletonList(new File(archive.getParentFile(), DRIVER));
+    }
+
+    static void serve(HttpExchange exchange, boolean acceptRanges)
+            throws IOException {
+        if (acceptRanges) {
+            exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+        }
+        String path = exchange.getRequestURI().getPath();
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+        if (ifRange != null) {
+            ifRangeHeaders.add(ifRange);
+        }
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.getResponseHeaders().add("Content-Length",
+                    String.valueOf(archive.length));
+            if (path.startsWith("/weak/")) {
+                exchange.getResponseHeaders().add("ETag", "W/\"1\"");
+                exchange.getResponseHeaders().add("Last-Modified",
+                        "Thu, 01 Jan 2026 00:00:00 GMT");
+            } else if (path.startsWith("/checksum/")) {
+                exchange.getResponseHeaders().add("x-goog-hash",
+                        "crc32c=AAAAAA==,md5=" + md5(archive));
+            } else if (path.startsWith("/wrongchecksum/")) {
+                exchange.getResponseHeaders().add("x-goog-hash",
+                        "md5=" + md5(driverContent));
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+
+        int first = 0;
+        int last = archive.length - 1;
+        if (acceptRanges && range != null) {
+            String[] bytes = range.substring("bytes=".length()).split("-");
+            first = Integer.parseInt(bytes[0]);
+            last = Integer.parseInt(bytes[1]);
+            exchange.getResponseHeaders().add("Content-Range", "bytes "
+                    + first + "-" + last + "/" + archive.length);
+            rangeRequests.incrementAndGet();
+            exchange.sendResponseHeaders(206, last - first + 1);
+        } else {
+            fullRequests.incrementAndGet();
+            exchange.sendResponseHeaders(200, archive.length);
+        }
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(archive, first, last - first + 1);
+        }
+    }
+
+    static String md5(byte[] content) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                    MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.download;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Extractor;
+
+/**
+ * Throughput (MB/s) of the extraction of each archive type. This benchmark is
+ * excluded by default, and it is executed with: mvn test -Pbenchmark
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+@Tag("benchmark")
+class ExtractionBenchmarkTest {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final String DRIVER = "geckodriver";
+    static final int DRIVER_SIZE = 16 * 1024 * 1024;
+    static final int WARMUP_ITERATIONS = 2;
+    static final int ITERATIONS = 5;
+
+    static byte[] driverContent;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setup() {
+        // Pseudo-random content, compressible as a real binary
+        driverContent = new byte[DRIVER_SIZE];
+        Random random = new Random(0);
+        for (int i = 0; i < DRIVER_SIZE; i++) {
+            driverContent[i] = (byte) (random.nextInt(16) + 'a');
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "geckodriver-linux64.zip",
+            "geckodriver-linux64.tar.gz", "geckodriver-linux64.gz" })
+    void testExtractionThroughput(String archiveName) throws IOException {
+        byte[] archive = createArchive(archiveName);
+        Extractor extractor = new Extractor(
+                new Config().setForceDownload(true));
+        File archiveFile = tempDir.resolve(archiveName).toFile();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            extractor.extract(new ByteArrayInputStream(archive), archiveFile);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            extractor.extract(new ByteArrayInputStream(archive), archiveFile);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double throughput = ITERATIONS * (DRIVER_SIZE / (1024.0 * 1024.0))
+                / seconds;
+        log.info("Extraction of {} ({} KB): {} MB/s", archiveName,
+                archive.length / 1024, String.format("%.1f", throughput));
+
+        assertThat(tempDir.resolve(DRIVER)).hasBinaryContent(driverContent);
+    }
+
+    private byte[] createArchive(String archiveName) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (archiveName.endsWith("zip")) {
+            try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+                zip.putNextEntry(new ZipEntry(DRIVER));
+                zip.write(driverContent);
+            }
+        } else if (archiveName.endsWith("tar.gz")) {
+            try (TarArchiveOutputStream tar = new TarArchiveOutputStream(
+                    new GZIPOutputStream(bytes))) {
+                TarArchiveEntry entry = new TarArchiveEntry(DRIVER);
+                entry.setSize(DRIVER_SIZE);
+                tar.putArchiveEntry(entry);
+                tar.write(driverContent);
+                tar.closeArchiveEntry();
+            }
+        } else {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                gzip.write(driverContent);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+}
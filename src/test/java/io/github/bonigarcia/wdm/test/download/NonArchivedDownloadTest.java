@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.download;
+
+import static io.github.bonigarcia.wdm.config.DriverManagerType.IEXPLORER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.bonigarcia.wdm.cache.BlobStore;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Downloader;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the download of drivers which are not archived (e.g., exe).
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class NonArchivedDownloadTest {
+
+    static final String DRIVER = "IEDriverServer.exe";
+
+    LocalHttpServer server;
+    byte[] driverContent;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        driverContent = new byte[4 * 1024 * 1024];
+        new Random(0).nextBytes(driverContent);
+        server = LocalHttpServer.start(this::serve);
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 4 })
+    void testNonArchivedDownload(int downloadChunks) throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString())
+                .setCacheBlobStore(true).setDownloadChunks(downloadChunks);
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        URL url = server.getUrl("/" + DRIVER);
+
+        File driver = new File(
+                downloader.download(url, "4.14.0", DRIVER, IEXPLORER));
+        assertThat(driver).hasBinaryContent(driverContent);
+        assertThat(driver.getParentFile().list(
+                (folder, name) -> !name.endsWith(".sha256")))
+                .containsExactly(DRIVER);
+
+        String digest = BlobStore.sha256(driver);
+        assertThat(tempDir.resolve("blobs").resolve("sha256").resolve(digest))
+                .hasBinaryContent(driverContent);
+    }
+
+    private List<File> findDriver(File archive) {
+        return Collections.singletonList(archive);
+    }
+
+    void serve(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.getResponseHeaders().add("Content-Length",
+                    String.valueOf(driverContent.length));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+
+        int first = 0;
+        int last = driverContent.length - 1;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null) {
+            String[] bytes = range.substring("bytes=".length()).split("-");
+            first = Integer.parseInt(bytes[0]);
+            last = Integer.parseInt(bytes[1]);
+            exchange.getResponseHeaders().add("Content-Range", "bytes "
+                    + first + "-" + last + "/" + driverContent.length);
+            exchange.sendResponseHeaders(206, last - first + 1);
+        } else {
+            exchange.sendResponseHeaders(200, driverContent.length);
+        }
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(driverContent, first, last - first + 1);
+        }
+    }
+
+}
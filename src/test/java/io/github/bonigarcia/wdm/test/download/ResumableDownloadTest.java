@@ -0,0 +1,180 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.download;
+
+import static io.github.bonigarcia.wdm.config.DriverManagerType.FIREFOX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Downloader;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the resumption of interrupted downloads.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class ResumableDownloadTest {
+
+    static final String DRIVER = "geckodriver";
+    static final String ETAG = "\"v0.36.0\"";
+
+    LocalHttpServer server;
+    byte[] driverContent;
+    byte[] archive;
+    List<String> ranges = new ArrayList<>();
+    boolean interrupt = true;
+    boolean rangeNotSatisfiable = false;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        driverContent = new byte[1024 * 1024];
+        new Random(0).nextBytes(driverContent);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(
+                new GZIPOutputStream(bytes))) {
+            TarArchiveEntry entry = new TarArchiveEntry(DRIVER);
+            entry.setSize(driverContent.length);
+            tar.putArchiveEntry(entry);
+            tar.write(driverContent);
+            tar.closeArchiveEntry();
+        }
+        archive = bytes.toByteArray();
+
+        server = LocalHttpServer.start(this::serve);
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testResumableDownload() throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString())
+                .setResumableDownloads(true);
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        URL url = server.getUrl("/geckodriver-v0.36.0-linux64.tar.gz");
+        File target = downloader.getTarget("0.36.0", DRIVER, FIREFOX, url);
+
+        // First attempt is interrupted in the middle of the download
+        assertThatThrownBy(
+                () -> downloader.download(url, "0.36.0", DRIVER, FIREFOX))
+                .isInstanceOf(IOException.class);
+        assertThat(new File(target.getPath() + ".part"))
+                .hasSize(archive.length / 2);
+
+        // Second attempt downloads only the remaining bytes
+        interrupt = false;
+        File driver = new File(
+                downloader.download(url, "0.36.0", DRIVER, FIREFOX));
+        assertThat(driver).hasBinaryContent(driverContent);
+        assertThat(ranges).containsExactly(null,
+                "bytes=" + archive.length / 2 + "-");
+        assertThat(target.getParentFile().list()).contains(DRIVER)
+                .noneMatch(name -> name.contains(".part"));
+    }
+
+    @Test
+    void testRangeNotSatisfiable() throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString())
+                .setResumableDownloads(true);
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        URL url = server.getUrl("/geckodriver-v0.36.0-linux64.tar.gz");
+        assertThatThrownBy(
+                () -> downloader.download(url, "0.36.0", DRIVER, FIREFOX))
+                .isInstanceOf(IOException.class);
+
+        // The partial content is rejected (HTTP 416), and therefore the
+        // download starts again
+        interrupt = false;
+        rangeNotSatisfiable = true;
+        File driver = new File(
+                downloader.download(url, "0.36.0", DRIVER, FIREFOX));
+        assertThat(driver).hasBinaryContent(driverContent);
+        assertThat(ranges).containsExactly(null,
+                "bytes=" + archive.length / 2 + "-", null);
+    }
+
+    private List<File> findDriver(File archive) {
+        return Collections
+                .singletonList(new File(archive.getParentFile(), DRIVER));
+    }
+
+    void serve(HttpExchange exchange) throws IOException {
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+        ranges.add(range);
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+
+        int first = 0;
+        if (range != null && rangeNotSatisfiable) {
+            exchange.sendResponseHeaders(416, -1);
+            exchange.close();
+            return;
+        } else if (range != null && ETAG.equals(ifRange)) {
+            first = Integer.parseInt(range.replaceAll("\\D", ""));
+            exchange.getResponseHeaders().add("Content-Range", "bytes "
+                    + first + "-" + (archive.length - 1) + "/"
+                    + archive.length);
+            exchange.sendResponseHeaders(206, archive.length - first);
+        } else {
+            exchange.sendResponseHeaders(200, archive.length);
+        }
+        OutputStream out = exchange.getResponseBody();
+        if (interrupt) {
+            out.write(archive, 0, archive.length / 2);
+            out.flush();
+            // The connection is closed before sending the whole content
+            exchange.close();
+            return;
+        }
+        out.write(archive, first, archive.length - first);
+        out.close();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.download;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Extractor;
+
+/**
+ * Test for the extraction of only the driver entries from archives.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class SelectiveExtractionTest {
+
+    static final String DRIVER = "chromedriver";
+    static final String FOLDER = "chromedriver-linux64/";
+    static final String[] EXTRA_ENTRIES = { "LICENSE.chromedriver",
+            "THIRD_PARTY_NOTICES.chromedriver" };
+
+    @TempDir
+    Path tempDir;
+
+    Extractor extractor = new Extractor(new Config(),
+            name -> name.equals(DRIVER));
+
+    @Test
+    void testSelectiveUnZip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(FOLDER));
+            for (String entry : EXTRA_ENTRIES) {
+                zip.putNextEntry(new ZipEntry(FOLDER + entry));
+                zip.write(entry.getBytes(UTF_8));
+            }
+            zip.putNextEntry(new ZipEntry(FOLDER + DRIVER));
+            zip.write(DRIVER.getBytes(UTF_8));
+        }
+
+        File archive = tempDir.resolve("chromedriver-linux64.zip").toFile();
+        extractor.extract(new ByteArrayInputStream(bytes.toByteArray()),
+                archive);
+        assertOnlyDriver();
+    }
+
+    @Test
+    void testSelectiveUnTarGz() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(
+                new GZIPOutputStream(bytes))) {
+            for (String entry : EXTRA_ENTRIES) {
+                putEntry(tar, FOLDER + entry, entry);
+            }
+            putEntry(tar, FOLDER + DRIVER, DRIVER);
+        }
+
+        File archive = tempDir.resolve("chromedriver-linux64.tar.gz")
+                .toFile();
+        extractor.extract(new ByteArrayInputStream(bytes.toByteArray()),
+                archive);
+        assertOnlyDriver();
+    }
+
+    private void putEntry(TarArchiveOutputStream tar, String name,
+            String content) throws IOException {
+        byte[] data = content.getBytes(UTF_8);
+        TarArchiveEntry entry = new TarArchiveEntry(name);
+        entry.setSize(data.length);
+        tar.putArchiveEntry(entry);
+        tar.write(data);
+        tar.closeArchiveEntry();
+    }
+
+    private void assertOnlyDriver() {
+        assertThat(FileUtils.listFiles(tempDir.toFile(), null, true))
+                .extracting(File::getName).containsExactly(DRIVER);
+        assertThat(tempDir.resolve(FOLDER + DRIVER)).hasContent(DRIVER);
+    }
+
+}
@@ -0,0 +1,290 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.download;
+
+import static io.github.bonigarcia.wdm.config.DriverManagerType.CHROME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.cache.CacheLock;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Downloader;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the installation of a driver by a single process (or thread) when
+ * several of them share the same cache.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class SingleFlightInstallTest {
+
+    static final String DRIVER = "chromedriver";
+    static final int PARALLEL_INSTALLS = 4;
+
+    LocalHttpServer server;
+    AtomicInteger requests = new AtomicInteger();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(DRIVER));
+            zip.write(DRIVER.getBytes(UTF_8));
+        }
+        byte[] archive = bytes.toByteArray();
+
+        server = LocalHttpServer.start(exchange -> {
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(),
+                    Math::max);
+            try {
+                // Slow download, so the installations overlap
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            LocalHttpServer.send(exchange, 200, archive);
+        });
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testSingleFlightInstall() throws Exception {
+        URL url = server.getUrl("/chromedriver-linux64.zip");
+        ExecutorService executor = Executors
+                .newFixedThreadPool(PARALLEL_INSTALLS);
+        List<Future<String>> installs = new ArrayList<>();
+        for (int i = 0; i < PARALLEL_INSTALLS; i++) {
+            // Each downloader simulates a different worker
+            Config config = new Config().setCachePath(tempDir.toString());
+            Downloader downloader = new Downloader(new HttpClient(config),
+                    config, this::findDriver);
+            installs.add(executor.submit(() -> downloader.download(url,
+                    "140.0.7339.82", DRIVER, CHROME)));
+        }
+        for (Future<String> install : installs) {
+            assertThat(new File(install.get())).hasContent(DRIVER);
+        }
+        executor.shutdown();
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void testConcurrentInstalls() throws Exception {
+        URL url = server.getUrl("/chromedriver-linux64.zip");
+        Config config = new Config().setCachePath(tempDir.toString());
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        ExecutorService executor = Executors
+                .newFixedThreadPool(PARALLEL_INSTALLS);
+        List<Future<String>> installs = new ArrayList<>();
+        for (int i = 0; i < PARALLEL_INSTALLS; i++) {
+            // Different versions are installed at the same time
+            String driverVersion = "14" + i + ".0.0.0";
+            installs.add(executor.submit(() -> downloader.download(url,
+                    driverVersion, DRIVER, CHROME)));
+        }
+        for (Future<String> install : installs) {
+            assertThat(new File(install.get())).hasContent(DRIVER);
+        }
+        executor.shutdown();
+        assertThat(requests).hasValue(PARALLEL_INSTALLS);
+        assertThat(maxInFlight.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void testCrashedOwner() throws IOException {
+        File target = tempDir.resolve("chromedriver-linux64.zip").toFile();
+        File lockFile = new File(target.getPath() + ".lock");
+        Files.write(lockFile.toPath(), "1234@crashed-host".getBytes(UTF_8));
+        assertThat(lockFile.setLastModified(
+                System.currentTimeMillis() - 120_000)).isTrue();
+
+        CacheLock lock = CacheLock.lock(target, 60_000);
+        assertThat(lockFile).content().doesNotContain("crashed-host");
+        lock.close();
+        assertThat(lockFile).isEmpty();
+    }
+
+    @Test
+    void testHeartbeat() throws Exception {
+        File target = tempDir.resolve("chromedriver-linux64.zip").toFile();
+        File lockFile = new File(target.getPath() + ".lock");
+        CacheLock lock = CacheLock.lock(target, 300);
+        try {
+            // Slow installations refresh the lock, so it does not get stale
+            long oldTime = System.currentTimeMillis() - 60_000;
+            assertThat(lockFile.setLastModified(oldTime)).isTrue();
+            Thread.sleep(500);
+            assertThat(lockFile.lastModified()).isGreaterThan(oldTime);
+        } finally {
+            lock.close();
+        }
+    }
+
+    @Test
+    void testOtherProcess() throws Exception {
+        File target = tempDir.resolve("chromedriver-linux64.zip").toFile();
+        File lockFile = new File(target.getPath() + ".lock");
+        Process lockHolder = startLockHolder(lockFile, "4321@other-host");
+        CompletableFuture<String> owner = CompletableFuture
+                .supplyAsync(() -> lockInstall(target, 60_000));
+        try {
+            // The lock is not acquired while held by the other process (and
+            // refreshed, i.e., not stale)
+            assertThatThrownBy(() -> owner.get(1, SECONDS))
+                    .isInstanceOf(TimeoutException.class);
+        } finally {
+            stopLockHolder(lockHolder);
+        }
+        assertThat(owner.get(10, SECONDS)).isNotEmpty()
+                .doesNotContain("other-host");
+        assertThat(lockFile).isEmpty();
+    }
+
+    @Test
+    void testStaleOwner() throws Exception {
+        // The lock of a hung process (e.g., a lock not released in a network
+        // file system) is not refreshed, and it is taken over when stale
+        File target = tempDir.resolve("chromedriver-linux64.zip").toFile();
+        File lockFile = new File(target.getPath() + ".lock");
+        Process lockHolder = startLockHolder(lockFile, "4321@dead-host");
+        try {
+            long oldTime = System.currentTimeMillis() - 120_000;
+            assertThat(lockFile.setLastModified(oldTime)).isTrue();
+
+            String owner = CompletableFuture
+                    .supplyAsync(() -> lockInstall(target, 60_000))
+                    .get(10, SECONDS);
+            assertThat(owner).isNotEmpty().doesNotContain("dead-host");
+            assertThat(lockFile.lastModified()).isGreaterThan(oldTime);
+        } finally {
+            stopLockHolder(lockHolder);
+        }
+    }
+
+    private String lockInstall(File target, long staleMillis) {
+        // The owner written in the lock file while held
+        File lockFile = new File(target.getPath() + ".lock");
+        try (CacheLock lock = CacheLock.lock(target, staleMillis)) {
+            return new String(Files.readAllBytes(lockFile.toPath()), UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Process startLockHolder(File lockFile, String owner)
+            throws Exception {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java")
+                .toString();
+        String classpath = Paths.get(LockHolder.class.getProtectionDomain()
+                .getCodeSource().getLocation().toURI()).toString();
+        Process process = new ProcessBuilder(java, "-cp", classpath,
+                LockHolder.class.getName(), lockFile.getPath(), owner)
+                .redirectErrorStream(true).start();
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), UTF_8));
+        assertThat(reader.readLine()).isEqualTo(LockHolder.LOCKED);
+        return process;
+    }
+
+    private void stopLockHolder(Process process) throws InterruptedException {
+        try {
+            process.getOutputStream().close();
+        } catch (IOException e) {
+            process.destroy();
+        }
+        assertThat(process.waitFor(10, SECONDS)).isTrue();
+    }
+
+    private List<File> findDriver(File archive) {
+        return Collections
+                .singletonList(new File(archive.getParentFile(), DRIVER));
+    }
+
+    /**
+     * Other process holding the lock of an installation (without refreshing
+     * it) until its standard input is closed.
+     */
+    static class LockHolder {
+
+        static final String LOCKED = "locked";
+
+        public static void main(String[] args) throws IOException {
+            try (FileChannel channel = FileChannel.open(Paths.get(args[0]),
+                    CREATE, READ, WRITE);
+                    FileLock lock = channel.lock()) {
+                channel.write(ByteBuffer.wrap(args[1].getBytes(UTF_8)), 0);
+                System.out.println(LOCKED);
+                System.out.flush();
+                while (System.in.read() != -1) {
+                    // Waiting for the end of the input
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.download;
+
+import static io.github.bonigarcia.wdm.config.DriverManagerType.EDGE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Downloader;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the atomic publication of drivers in the cache.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class StagedInstallTest {
+
+    static final String DRIVER = "msedgedriver";
+    static final String DYLIB = "libc++.dylib";
+    static final String VERSION = "140.0.3485.54";
+
+    LocalHttpServer server;
+    URL url;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(DRIVER));
+            zip.write(DRIVER.getBytes(UTF_8));
+            zip.putNextEntry(new ZipEntry(DYLIB));
+            zip.write(DYLIB.getBytes(UTF_8));
+        }
+        byte[] archive = bytes.toByteArray();
+
+        server = LocalHttpServer.start(
+                exchange -> LocalHttpServer.send(exchange, 200, archive));
+        url = server.getUrl("/edgedriver_mac64.zip");
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testStagedInstall() throws IOException {
+        File driver = install(new Config().setCachePath(tempDir.toString()));
+        File targetFolder = driver.getParentFile();
+
+        assertThat(driver).hasContent(DRIVER).isExecutable();
+        assertThat(targetFolder.list()).containsExactlyInAnyOrder(DRIVER,
+                DRIVER + ".sha256", DYLIB);
+        // No staging folders are left, only the lock of the installation
+        assertThat(targetFolder.getParentFile().list())
+                .containsExactlyInAnyOrder(VERSION, VERSION + ".lock");
+
+        // Forced downloads replace the files of the existing folder
+        File forcedDriver = install(new Config()
+                .setCachePath(tempDir.toString()).setForceDownload(true));
+        assertThat(forcedDriver).isEqualTo(driver).isExecutable();
+        assertThat(targetFolder.list()).containsExactlyInAnyOrder(DRIVER,
+                DRIVER + ".sha256", DYLIB);
+    }
+
+    private File install(Config config) throws IOException {
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        return new File(downloader.download(url, VERSION, DRIVER, EDGE));
+    }
+
+    private List<File> findDriver(File archive) {
+        List<File> files = new ArrayList<>();
+        files.add(new File(archive.getParentFile(), DRIVER));
+        files.add(new File(archive.getParentFile(), DYLIB));
+        return files;
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.download;
+
+import static io.github.bonigarcia.wdm.config.DriverManagerType.CHROME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.Downloader;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the extraction of drivers while they are downloaded.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class StreamingExtractionTest {
+
+    static final String DRIVER = "chromedriver";
+    static final byte[] DRIVER_CONTENT = "driver".getBytes(UTF_8);
+
+    static LocalHttpServer server;
+    static Map<String, byte[]> archives = new HashMap<>();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        archives.put("/chromedriver-linux64.zip", createZip());
+        archives.put("/chromedriver-linux64.tar.gz", createTarGz());
+
+        server = LocalHttpServer.start(exchange -> LocalHttpServer.send(
+                exchange, 200,
+                archives.get(exchange.getRequestURI().getPath())));
+    }
+
+    @AfterAll
+    static void teardown() {
+        server.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/chromedriver-linux64.zip",
+            "/chromedriver-linux64.tar.gz" })
+    void testStreamingExtraction(String archive) throws IOException {
+        Config config = new Config().setCachePath(tempDir.toString());
+        Downloader downloader = new Downloader(new HttpClient(config), config,
+                this::findDriver);
+        URL url = server.getUrl(archive);
+
+        File driver = new File(
+                downloader.download(url, "140.0.7339.82", DRIVER, CHROME));
+        assertThat(driver).hasName(DRIVER).hasBinaryContent(DRIVER_CONTENT)
+                .isExecutable();
+        assertThat(new File(driver.getParentFile(), archive)).doesNotExist();
+    }
+
+    private List<File> findDriver(File archive) {
+        // Archive is not written to disk, only its entries
+        assertThat(archive).doesNotExist();
+        return Collections.singletonList(
+                new File(archive.getParentFile(), DRIVER + "/" + DRIVER));
+    }
+
+    static byte[] createZip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(DRIVER + "/"));
+            zip.putNextEntry(new ZipEntry(DRIVER + "/" + DRIVER));
+            zip.write(DRIVER_CONTENT);
+            zip.putNextEntry(new ZipEntry(DRIVER + "/LICENSE"));
+            zip.write("license".getBytes(UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[] createTarGz() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(
+                new GZIPOutputStream(bytes))) {
+            tar.putArchiveEntry(new TarArchiveEntry(DRIVER + "/"));
+            tar.closeArchiveEntry();
+            TarArchiveEntry entry = new TarArchiveEntry(DRIVER + "/" + DRIVER);
+            entry.setSize(DRIVER_CONTENT.length);
+            tar.putArchiveEntry(entry);
+            tar.write(DRIVER_CONTENT);
+            tar.closeArchiveEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+}
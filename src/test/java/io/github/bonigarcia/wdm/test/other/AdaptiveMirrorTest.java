@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.other;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.managers.ChromeDriverManager;
+import io.github.bonigarcia.wdm.online.HostStats;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.online.MirrorSelector;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the selection of the driver repository (primary or mirror) based
+ * on the latency of each host.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class AdaptiveMirrorTest {
+
+    static final long SLOW_RESPONSE_MILLIS = 3000;
+
+    LocalHttpServer primary;
+    LocalHttpServer mirror;
+    AtomicInteger primaryRequests = new AtomicInteger();
+    AtomicInteger mirrorRequests = new AtomicInteger();
+    long primaryDelay;
+
+    @BeforeEach
+    void setup() throws IOException {
+        primary = startServer(primaryRequests, true);
+        mirror = startServer(mirrorRequests, false);
+    }
+
+    @AfterEach
+    void teardown() {
+        primary.close();
+        mirror.close();
+    }
+
+    @Test
+    void testFastPrimary() throws IOException {
+        try (HttpClient httpClient = new HttpClient(new Config())) {
+            assertThat(MirrorSelector.select(httpClient, getUrl(primary),
+                    getUrl(mirror))).hasToString(getUrl(primary).toString());
+        }
+        assertThat(primaryRequests).hasValue(1);
+        assertThat(mirrorRequests).hasValue(0);
+        assertThat(HostStats.of(getUrl(primary)).getSamples()).isEqualTo(1);
+    }
+
+    @Test
+    void testHedgedMirror() throws IOException {
+        primaryDelay = SLOW_RESPONSE_MILLIS;
+        long start = System.currentTimeMillis();
+        try (HttpClient httpClient = new HttpClient(new Config())) {
+            assertThat(MirrorSelector.select(httpClient, getUrl(primary),
+                    getUrl(mirror))).hasToString(getUrl(mirror).toString());
+        }
+        assertThat(System.currentTimeMillis() - start)
+                .isLessThan(SLOW_RESPONSE_MILLIS);
+        assertThat(primaryRequests).hasValue(1);
+        assertThat(mirrorRequests).hasValue(1);
+    }
+
+    @Test
+    void testFasterMirror() throws IOException {
+        // The mirror is probed first when its latency is lower
+        for (int i = 0; i < 5; i++) {
+            HostStats.of(getUrl(primary)).record(5000, false);
+            HostStats.of(getUrl(mirror)).record(1000, false);
+        }
+        try (HttpClient httpClient = new HttpClient(new Config())) {
+            assertThat(MirrorSelector.select(httpClient, getUrl(primary),
+                    getUrl(mirror))).hasToString(getUrl(mirror).toString());
+        }
+        assertThat(primaryRequests).hasValue(0);
+        assertThat(mirrorRequests).hasValue(1);
+    }
+
+    @Test
+    void testSelectionInManager() throws IOException {
+        primaryDelay = SLOW_RESPONSE_MILLIS;
+        AdaptiveMirrorManager manager = new AdaptiveMirrorManager();
+        manager.config().setChromeDriverMirrorUrl(getUrl(mirror))
+                .setChromeDownloadUrlPattern(
+                        getUrl(primary) + "%s/%s/chromedriver-%s.zip");
+        manager.useAdaptiveMirror();
+        assertThat(primaryRequests).hasValue(0);
+
+        // The selection is done when the repository is first required, and
+        // it is not stored in the configuration
+        assertThat(manager.isUseMirror()).isTrue();
+        assertThat(manager.isUseMirror()).isTrue();
+        assertThat(manager.config().isUseMirror()).isFalse();
+        assertThat(primaryRequests).hasValue(1);
+        assertThat(mirrorRequests).hasValue(1);
+    }
+
+    private LocalHttpServer startServer(AtomicInteger requests,
+            boolean isPrimary) throws IOException {
+        return LocalHttpServer.start(exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(isPrimary ? primaryDelay : 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+    }
+
+    private URL getUrl(LocalHttpServer server) throws IOException {
+        return server.getUrl("/drivers/");
+    }
+
+    static class AdaptiveMirrorManager extends ChromeDriverManager {
+
+        @Override
+        protected boolean isUseMirror() {
+            return super.isUseMirror();
+        }
+
+    }
+
+}
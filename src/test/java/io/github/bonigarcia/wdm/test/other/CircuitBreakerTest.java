@@ -0,0 +1,115 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.other;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.CircuitBreaker;
+import io.github.bonigarcia.wdm.online.CircuitBreakerOpenException;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the circuit breaker of the requests to remote repositories.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class CircuitBreakerTest {
+
+    LocalHttpServer server;
+    URL url;
+    AtomicInteger requests = new AtomicInteger();
+    int responseCode = 500;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = LocalHttpServer.start(exchange -> {
+            requests.incrementAndGet();
+            byte[] body = String.valueOf(responseCode).getBytes(UTF_8);
+            LocalHttpServer.send(exchange, responseCode, body);
+        });
+        url = server.getUrl("/LATEST_RELEASE");
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testCircuitBreaker() throws Exception {
+        Config config = new Config().setCachePath(tempDir.toString())
+                .setCircuitBreakerThreshold(2).setCircuitBreakerTimeout(1);
+        try (HttpClient httpClient = new HttpClient(config)) {
+            assertThatThrownBy(() -> request(httpClient))
+                    .hasMessageContaining("500");
+            assertThatThrownBy(() -> request(httpClient))
+                    .hasMessageContaining("500");
+
+            // The breaker is open after two failed requests
+            assertThatThrownBy(() -> request(httpClient))
+                    .isInstanceOf(CircuitBreakerOpenException.class)
+                    .hasMessageContaining("Circuit breaker open");
+            assertThat(requests).hasValue(2);
+        }
+
+        // The state is shared with other clients (or processes) using the
+        // same cache
+        Config otherConfig = new Config().setCachePath(tempDir.toString())
+                .setCircuitBreakerThreshold(2);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(otherConfig);
+        assertThat(circuitBreaker.getStateFile()).exists();
+        assertThat(circuitBreaker.isOpen(url)).isTrue();
+
+        // After the timeout, a request is allowed (half-open), closing the
+        // breaker when successful
+        Thread.sleep(1100);
+        responseCode = 200;
+        try (HttpClient httpClient = new HttpClient(otherConfig)) {
+            request(httpClient);
+            request(httpClient);
+        }
+        assertThat(requests).hasValue(4);
+        assertThat(circuitBreaker.isOpen(url)).isFalse();
+    }
+
+    private void request(HttpClient httpClient) throws IOException {
+        try (ClassicHttpResponse response = httpClient
+                .execute(httpClient.createHttpGet(url))) {
+            assertThat(response.getCode()).isEqualTo(200);
+        }
+    }
+
+}
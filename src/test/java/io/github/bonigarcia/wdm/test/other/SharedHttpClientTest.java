@@ -0,0 +1,109 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.other;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the HTTP client (and connections) shared in the JVM.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class SharedHttpClientTest {
+
+    static final String CONTENT = "140.0.7339.82";
+
+    LocalHttpServer server;
+    URL url;
+    List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = LocalHttpServer.start(exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = CONTENT.getBytes(UTF_8);
+            LocalHttpServer.send(exchange, 200, body);
+        });
+        url = server.getUrl("/LATEST_RELEASE");
+    }
+
+    @AfterEach
+    void teardown() {
+        server.close();
+    }
+
+    @Test
+    void testSharedConnections() throws IOException {
+        // Clients with the same configuration reuse the connection
+        try (HttpClient httpClient = new HttpClient(new Config())) {
+            assertThat(get(httpClient)).isEqualTo(CONTENT);
+        }
+        try (HttpClient httpClient = new HttpClient(new Config())) {
+            assertThat(get(httpClient)).isEqualTo(CONTENT);
+        }
+        assertThat(clientPorts).hasSize(2);
+        assertThat(clientPorts.get(1)).isEqualTo(clientPorts.get(0));
+
+        // Clients with a different configuration use other connections
+        try (HttpClient httpClient = new HttpClient(
+                new Config().setTimeout(10))) {
+            assertThat(get(httpClient)).isEqualTo(CONTENT);
+        }
+        assertThat(clientPorts.get(2)).isNotEqualTo(clientPorts.get(0));
+    }
+
+    @Test
+    void testClosedClient() throws IOException {
+        HttpClient httpClient = new HttpClient(new Config());
+        httpClient.close();
+
+        // A closed client cannot be used, and closing it again is harmless
+        assertThat(httpClient.isClosed()).isTrue();
+        assertThatThrownBy(() -> get(httpClient))
+                .isInstanceOf(IllegalStateException.class);
+        httpClient.close();
+        assertThat(clientPorts).isEmpty();
+    }
+
+    private String get(HttpClient httpClient) throws IOException {
+        try (ClassicHttpResponse response = httpClient
+                .execute(httpClient.createHttpGet(url));
+                InputStream in = response.getEntity().getContent()) {
+            return IOUtils.toString(in, UTF_8);
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.wdm.test.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openqa.selenium.net.PortProber.findFreePort;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.wdm.WdmServer;
+import io.github.bonigarcia.wdm.cache.ResolutionCache;
+import io.github.bonigarcia.wdm.cache.ServerResolutionCacheBackend;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.test.base.LocalHttpServer;
+
+/**
+ * Test for the resolution cache hosted by the wdm server.
+ *
+ * @author Boni Garcia
+ * @since 6.3.5
+ */
+class ServerResolutionCacheTest {
+
+    static final String RESOLUTION_CACHE_PATH = "wdm.resolutionCachePath";
+
+    @TempDir
+    static Path tempDir;
+
+    static String serverUrl;
+
+    @BeforeAll
+    static void startServer() {
+        System.setProperty(RESOLUTION_CACHE_PATH, tempDir.toString());
+        int serverPort = findFreePort();
+        new WdmServer(serverPort);
+        serverUrl = String.format("http://localhost:%s/", serverPort);
+    }
+
+    @AfterAll
+    static void teardown() {
+        System.clearProperty(RESOLUTION_CACHE_PATH);
+    }
+
+    @Test
+    void testSharedResolutionCache() {
+        // Each cache simulates a different agent using the same server
+        ResolutionCache firstAgentCache = new ResolutionCache(createConfig());
+        ResolutionCache secondAgentCache = new ResolutionCache(createConfig());
+
+        firstAgentCache.putValueInResolutionCacheIfEmpty("chrome", "140",
+                3600);
+        assertThat(secondAgentCache.checkKeyInResolutionCache("chrome"))
+                .isTrue();
+        assertThat(secondAgentCache.getValueFromResolutionCache("chrome"))
+                .isEqualTo("140");
+        assertThat(tempDir.resolve("resolution.properties")).content()
+                .contains("chrome=140");
+    }
+
+    @Test
+    void testNotModified() {
+        ServerResolutionCacheBackend backend = new ServerResolutionCacheBackend(
+                createConfig());
+        backend.load();
+        assertThat(backend.reload()).isEmpty();
+
+        new ResolutionCache(createConfig())
+                .putValueInResolutionCacheIfEmpty("firefox", "143", 3600);
+        assertThat(backend.reload()).isPresent();
+        assertThat(backend.reload()).isEmpty();
+    }
+
+    @Test
+    void testUnreachableServer() throws IOException {
+        AtomicInteger requests = new AtomicInteger();
+        try (LocalHttpServer server = LocalHttpServer.start(exchange -> {
+            // The connection is closed without response
+            requests.incrementAndGet();
+            exchange.close();
+        })) {
+            ServerResolutionCacheBackend backend = new ServerResolutionCacheBackend(
+                    new Config().setResolutionCacheBackend("server")
+                            .setResolutionCacheServerUrl(server.getBaseUrl()));
+            assertThat(backend.reload()).isEmpty();
+            int failedRequests = requests.get();
+            assertThat(failedRequests).isPositive();
+
+            // The server is not requested again for some time
+            assertThat(backend.reload()).isEmpty();
+            assertThat(requests).hasValue(failedRequests);
+        }
+    }
+
+    private Config createConfig() {
+        return new Config().setResolutionCacheBackend("server")
+                .setResolutionCacheServerUrl(serverUrl);
+    }
+
+}